@@ -0,0 +1,167 @@
+package com.example.issuetracker.controller;
+
+import com.example.issuetracker.IssueTrackerApplication;
+import com.example.issuetracker.config.DeveloperFragmentModule;
+import com.example.issuetracker.config.WebConfiguration;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanListResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.Response;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.domain.StoryStatus;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ResponseEncodingBenchmark {
+
+    private static final int NUMBER_OF_DEVELOPERS = 5;
+    private static final int STORIES_PER_WEEK = 10;
+
+    private static final String JSON_WITHOUT_FRAGMENTS = "json-without-fragments";
+
+    @Param({"json", JSON_WITHOUT_FRAGMENTS, "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int numberOfStories;
+
+    private ObjectMapper objectMapper;
+    private JavaType responseType;
+    private Response<PlanListResponse> response;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(IssueTrackerApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:encoding_benchmark_db",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.issuetracker=WARN")) {
+            objectMapper = findObjectMapper(applicationContext.getBean(RequestMappingHandlerAdapter.class).getMessageConverters());
+            response = new Response<>(ResponseMessageEnum.SUCCESS.getMessage(), buildPlan());
+            if (JSON_WITHOUT_FRAGMENTS.equals(format)) {
+                objectMapper = buildObjectMapperWithoutFragments(applicationContext);
+            }
+        }
+        responseType = objectMapper.getTypeFactory().constructParametricType(Response.class, PlanListResponse.class);
+        encodedResponse = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadCounters payloadCounters) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(response);
+        payloadCounters.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Response<PlanListResponse> decode() throws IOException {
+        return objectMapper.readValue(encodedResponse, responseType);
+    }
+
+    /**
+     * Uses the mapper of the converter that serves requests for the format, so the benchmark sees the same configuration as production.
+     */
+    private ObjectMapper findObjectMapper(List<HttpMessageConverter<?>> converters) {
+        MediaType mediaType = buildMediaType();
+        return converters.stream()
+            .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+            .map(AbstractJackson2HttpMessageConverter.class::cast)
+            .filter(converter -> converter.canWrite(Response.class, mediaType))
+            .findFirst()
+            .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+            .orElseThrow(() -> new IllegalStateException("No converter registered for " + mediaType));
+    }
+
+    /**
+     * Builds the JSON mapper the same way Spring Boot does, from every module bean except {@link DeveloperFragmentModule}, and checks that
+     * it writes the same bytes as the production mapper.
+     */
+    private ObjectMapper buildObjectMapperWithoutFragments(ConfigurableApplicationContext applicationContext) throws IOException {
+        Module[] modules = applicationContext.getBeansOfType(Module.class)
+            .values()
+            .stream()
+            .filter(module -> !(module instanceof DeveloperFragmentModule))
+            .toArray(Module[]::new);
+        ObjectMapper objectMapperWithoutFragments = applicationContext.getBean(Jackson2ObjectMapperBuilder.class)
+            .modulesToInstall(modules)
+            .build();
+        if (!Arrays.equals(objectMapperWithoutFragments.writeValueAsBytes(response), objectMapper.writeValueAsBytes(response))) {
+            throw new IllegalStateException("JSON without developer fragments differs from the production JSON");
+        }
+        return objectMapperWithoutFragments;
+    }
+
+    private MediaType buildMediaType() {
+        switch (format) {
+            case "cbor":
+                return MediaType.APPLICATION_CBOR;
+            case "smile":
+                return MediaType.valueOf(WebConfiguration.APPLICATION_SMILE_VALUE);
+            default:
+                return MediaType.APPLICATION_JSON;
+        }
+    }
+
+    private PlanListResponse buildPlan() {
+        SplittableRandom random = new SplittableRandom(numberOfStories);
+        LocalDateTime creationDate = LocalDateTime.now();
+        List<PlanResponse> plans = new ArrayList<>();
+        for (int id = 1; id <= numberOfStories; id++) {
+            if (id % STORIES_PER_WEEK == 1) {
+                plans.add(new PlanResponse(plans.size() + 1, new ArrayList<>(STORIES_PER_WEEK)));
+            }
+            int developerId = random.nextInt(1, NUMBER_OF_DEVELOPERS + 1);
+            plans.get(plans.size() - 1).getIssues().add(new IssueResponse(id, IssueType.STORY.name(), "title " + id, "description " + id,
+                random.nextInt(1, 9), creationDate, StoryStatus.ESTIMATED.name(), null,
+                new DeveloperResponse(developerId, "developer " + developerId)));
+        }
+        return new PlanListResponse(plans);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadCounters {
+
+        public long payloadBytes;
+    }
+}
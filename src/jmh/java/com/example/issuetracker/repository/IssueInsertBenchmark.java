@@ -0,0 +1,101 @@
+package com.example.issuetracker.repository;
+
+import com.example.issuetracker.IssueTrackerApplication;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class IssueInsertBenchmark {
+
+    private static final int NUMBER_OF_STORIES = 10_000;
+
+    @Param({"1", "50"})
+    private int idBlockSize;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext applicationContext;
+    private StoryRepository storyRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcExecutionCounter jdbcExecutionCounter;
+
+    @Setup
+    public void setUp() {
+        jdbcExecutionCounter = new JdbcExecutionCounter();
+        applicationContext = new SpringApplicationBuilder(IssueTrackerApplication.class)
+            .web(WebApplicationType.NONE)
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(jdbcExecutionCounter))
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:insert_benchmark_db",
+                "--spring.h2.console.enabled=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--id-block-size=" + idBlockSize,
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.issuetracker=WARN");
+        storyRepository = applicationContext.getBean(StoryRepository.class);
+        transactionTemplate = applicationContext.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteStories() {
+        applicationContext.getBean(JdbcTemplate.class).update("delete from issue");
+    }
+
+    @Benchmark
+    public void insertStories(StatementCounters statementCounters) {
+        jdbcExecutionCounter.getAndReset();
+        LocalDateTime creationDate = LocalDateTime.now();
+        List<StoryEntity> stories = new ArrayList<>(NUMBER_OF_STORIES);
+        for (int i = 0; i < NUMBER_OF_STORIES; i++) {
+            StoryEntity storyEntity = new StoryEntity();
+            storyEntity.setTitle("title " + i);
+            storyEntity.setStatus(StoryStatus.NEW);
+            storyEntity.setStoryPoint(3);
+            storyEntity.setCreationDate(creationDate);
+            stories.add(storyEntity);
+        }
+        transactionTemplate.executeWithoutResult(status -> storyRepository.saveAll(stories));
+        statementCounters.statements += jdbcExecutionCounter.getAndReset();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+
+        public long statements;
+    }
+}
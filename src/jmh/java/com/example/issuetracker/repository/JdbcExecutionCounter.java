@@ -0,0 +1,53 @@
+package com.example.issuetracker.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Counts statements sent to the database, where a JDBC batch counts once.
+ */
+class JdbcExecutionCounter implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+        "executeBatch", "executeLargeBatch");
+
+    private final AtomicLong executions = new AtomicLong();
+
+    long getAndReset() {
+        return executions.getAndSet(0);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource ? wrap(bean, DataSource.class) : bean;
+    }
+
+    private Object wrap(Object target, Class<?> type) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> invoke(target, method, args);
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, invocationHandler);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (EXECUTE_METHODS.contains(method.getName())) {
+            executions.incrementAndGet();
+        }
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (result instanceof Connection || result instanceof Statement) {
+            return wrap(result, method.getReturnType());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.IssueTrackerApplication;
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.PlanListResponse;
+import com.example.issuetracker.controller.response.PlanWindowResponse;
+import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.DeveloperRepository;
+import com.example.issuetracker.repository.StoryRepository;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class PlanServiceBenchmark {
+
+    private static final int NUMBER_OF_DEVELOPERS = 5;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int numberOfStories;
+
+    private ConfigurableApplicationContext applicationContext;
+    private PlanService planService;
+    private StoryEntity changedStory;
+
+    @Setup
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(IssueTrackerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:plan_benchmark_db",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.issuetracker=WARN");
+        insertBacklog(applicationContext.getBean(JdbcTemplate.class));
+        planService = applicationContext.getBean(PlanService.class);
+        changedStory = new StoryEntity();
+        changedStory.setId(numberOfStories / 2);
+        changedStory.setType(IssueType.STORY);
+        changedStory.setTitle("title");
+        changedStory.setStatus(StoryStatus.ESTIMATED);
+        changedStory.setStoryPoint(1);
+        changedStory.setCreationDate(LocalDateTime.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public PlanListResponse getPlanFromDatabase() {
+        PlanService coldPlanService = new PlanService(applicationContext.getBean(ApplicationConfiguration.class),
+            applicationContext.getBean(DeveloperRepository.class), applicationContext.getBean(StoryRepository.class),
+            applicationContext.getBean(ObjectMapper.class));
+        return coldPlanService.getPlan();
+    }
+
+    @Benchmark
+    public PlanListResponse getPlanAfterStoryChange() {
+        changedStory.setStoryPoint(changedStory.getStoryPoint() % 8 + 1);
+        planService.storySaved(changedStory);
+        return planService.getPlan();
+    }
+
+    @Benchmark
+    public PlanWindowResponse getPlanWindow() {
+        return planService.getPlanWindow(1, 4);
+    }
+
+    @Benchmark
+    public void writePlan() throws IOException {
+        planService.writePlan(OutputStream.nullOutputStream());
+    }
+
+    private void insertBacklog(JdbcTemplate jdbcTemplate) {
+        List<Object[]> developers = new ArrayList<>();
+        for (int id = 1; id <= NUMBER_OF_DEVELOPERS; id++) {
+            developers.add(new Object[] {id, "developer " + id});
+        }
+        jdbcTemplate.batchUpdate("insert into developer (id, name) values (?, ?)", developers);
+
+        SplittableRandom random = new SplittableRandom(numberOfStories);
+        Timestamp creationDate = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> stories = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= numberOfStories; id++) {
+            stories.add(new Object[] {id, IssueType.STORY.name(), "title " + id, creationDate,
+                random.nextInt(4) == 0 ? random.nextInt(1, NUMBER_OF_DEVELOPERS + 1) : null,
+                random.nextBoolean() ? StoryStatus.NEW.name() : StoryStatus.ESTIMATED.name(), random.nextInt(1, 9)});
+            if (stories.size() == BATCH_SIZE || id == numberOfStories) {
+                jdbcTemplate.batchUpdate("insert into issue (id, type, title, creation_date, developer_id, status, story_point) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)", stories);
+                stories.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.StoryStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class WeekPlannerBenchmark {
+
+    private static final long MAXIMUM_STORY_POINTS = 50;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int numberOfStories;
+
+    private List<IssueResponse> stories;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(numberOfStories);
+        LocalDateTime creationDate = LocalDateTime.now();
+        stories = new ArrayList<>(numberOfStories);
+        for (int id = 1; id <= numberOfStories; id++) {
+            stories.add(new IssueResponse(id, IssueType.STORY.name(), "title", null, random.nextInt(1, 9), creationDate,
+                StoryStatus.ESTIMATED.name(), null, null));
+        }
+    }
+
+    @Benchmark
+    public int packWeeks(Blackhole blackhole) {
+        WeekPlanner weekPlanner = new WeekPlanner(MAXIMUM_STORY_POINTS, blackhole::consume);
+        stories.forEach(weekPlanner::add);
+        weekPlanner.finish();
+        return weekPlanner.getWeek();
+    }
+}
@@ -1,11 +1,26 @@
 package com.example.issuetracker.config;
 
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.generator.PooledSequenceGenerator;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
 import java.time.format.DateTimeFormatter;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +35,79 @@ public class ApplicationConfiguration {
     @Value("${spring.jackson.date-format}")
     private String dateFormat;
 
+    @Value("${planning-parallelism:0}")
+    private Integer planningParallelism;
+
+    @Value("${forecast-simulations:1000}")
+    private Integer forecastSimulations;
+
+    @Value("${forecast-max-simulations:2000}")
+    private Integer forecastMaxSimulations;
+
+    @Value("${forecast-velocity-spread:0.3}")
+    private Double forecastVelocitySpread;
+
+    @Value("${id-block-size:50}")
+    private Integer idBlockSize;
+
+    @Value("${batch-max-size:1000}")
+    private Integer batchMaxSize;
+
+    @Value("${page-default-size:100}")
+    private Integer pageDefaultSize;
+
+    @Value("${page-max-size:1000}")
+    private Integer pageMaxSize;
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${developer-cache-max-size:10000}")
+    private Long developerCacheMaxSize;
+
+    @Value("${developer-cache-expiry-seconds:3600}")
+    private Long developerCacheExpirySeconds;
+
     @Bean
     public Jackson2ObjectMapperBuilderCustomizer jackson2ObjectMapperBuilderCustomizer() {
         return jacksonObjectMapperBuilder -> jacksonObjectMapperBuilder.serializers(new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(dateFormat)));
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool planningForkJoinPool() {
+        return new ForkJoinPool(planningParallelism > 0 ? planningParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernatePropertiesCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(PooledSequenceGenerator.BLOCK_SIZE_SETTING, idBlockSize);
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create(applicationName), getClass().getClassLoader());
+        cacheManager.createCache(DeveloperEntity.CACHE_REGION, developerCacheConfiguration());
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, developerCacheConfiguration());
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            new MutableConfiguration<>().setStatisticsEnabled(true));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> developerCacheConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(developerCacheMaxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(developerCacheExpirySeconds)));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
 }
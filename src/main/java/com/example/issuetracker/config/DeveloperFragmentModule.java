@@ -0,0 +1,102 @@
+package com.example.issuetracker.config;
+
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.domain.DevelopersChangedEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every {@link DeveloperResponse} in JSON output from a cached, already encoded fragment, so a plan or issue list assigned to a
+ * few developers encodes each of them once instead of once per issue. Fragments are encoded with the factory of the outgoing mapper,
+ * only reused while the name still matches, and evicted on {@link DevelopersChangedEvent}. Binary and pretty printed output are
+ * written by the regular bean serializer.
+ */
+@Component
+public class DeveloperFragmentModule extends SimpleModule {
+
+    private final Map<Integer, DeveloperFragment> fragments = new ConcurrentHashMap<>();
+
+    public DeveloperFragmentModule() {
+        super(DeveloperFragmentModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (DeveloperResponse.class.equals(beanDesc.getBeanClass())) {
+                    return new DeveloperFragmentSerializer((JsonSerializer<Object>) serializer);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    @EventListener
+    public void onDevelopersChanged(DevelopersChangedEvent developersChangedEvent) {
+        developersChangedEvent.getIds().forEach(fragments::remove);
+    }
+
+    @Value
+    private static class DeveloperFragment {
+
+        String name;
+        SerializableString json;
+    }
+
+    private class DeveloperFragmentSerializer extends JsonSerializer<DeveloperResponse> implements ResolvableSerializer {
+
+        private final JsonSerializer<Object> beanSerializer;
+
+        DeveloperFragmentSerializer(JsonSerializer<Object> beanSerializer) {
+            this.beanSerializer = beanSerializer;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (beanSerializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) beanSerializer).resolve(provider);
+            }
+        }
+
+        @Override
+        public void serialize(DeveloperResponse developerResponse, JsonGenerator jsonGenerator, SerializerProvider provider) throws IOException {
+            if (!(jsonGenerator instanceof JsonGeneratorImpl) || Objects.isNull(jsonGenerator.getCodec())
+                || Objects.nonNull(jsonGenerator.getPrettyPrinter()) || Objects.isNull(developerResponse.getId())) {
+                beanSerializer.serialize(developerResponse, jsonGenerator, provider);
+                return;
+            }
+            DeveloperFragment fragment = fragments.get(developerResponse.getId());
+            if (Objects.isNull(fragment) || !Objects.equals(fragment.getName(), developerResponse.getName())) {
+                fragment = new DeveloperFragment(developerResponse.getName(), encode(developerResponse, jsonGenerator, provider));
+                fragments.put(developerResponse.getId(), fragment);
+            }
+            jsonGenerator.writeRawValue(fragment.getJson());
+        }
+
+        private SerializableString encode(DeveloperResponse developerResponse, JsonGenerator jsonGenerator, SerializerProvider provider)
+            throws IOException {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator fragmentGenerator = jsonGenerator.getCodec().getFactory().createGenerator(writer)) {
+                beanSerializer.serialize(developerResponse, fragmentGenerator, provider);
+            }
+            return new SerializedString(writer.toString());
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.issuetracker.controller;
 
+import com.example.issuetracker.config.WebConfiguration;
 import com.example.issuetracker.controller.request.DeveloperCreateUpdateRequest;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
 import com.example.issuetracker.controller.response.DeveloperListResponse;
 import com.example.issuetracker.controller.response.DeveloperResponse;
 import com.example.issuetracker.domain.Response;
 import com.example.issuetracker.domain.ResponseFactory;
 import com.example.issuetracker.service.DeveloperService;
+import com.example.issuetracker.util.ETagUtil;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,11 +21,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
-@RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfiguration.APPLICATION_SMILE_VALUE})
 @RequiredArgsConstructor
 public class DeveloperController {
 
@@ -27,18 +36,36 @@ public class DeveloperController {
 
     @PostMapping(value = "/developers")
     public ResponseEntity<Response<DeveloperResponse>> createDeveloper(@RequestBody DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
-        return ResponseFactory.success(developerService.createDeveloper(developerCreateUpdateRequest), DeveloperResponse.class);
+        DeveloperResponse developerResponse = developerService.createDeveloper(developerCreateUpdateRequest);
+        return ResponseFactory.success(developerResponse, DeveloperResponse.class, ETagUtil.toETag(developerResponse.getVersion()));
+    }
+
+    @PostMapping(value = "/developers/batch")
+    public ResponseEntity<Response<BatchResponse<DeveloperResponse>>> createDevelopers(
+        @RequestBody List<DeveloperCreateUpdateRequest> developerCreateUpdateRequests) {
+        return ResponseFactory.success(developerService.createDevelopers(developerCreateUpdateRequests), BatchResponse.class);
+    }
+
+    @GetMapping(value = "/developers", params = "ids")
+    public ResponseEntity<Response<BatchResponse<DeveloperResponse>>> getDevelopersByIds(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(developerService.getDevelopersByIds(ids), BatchResponse.class);
     }
 
     @GetMapping(value = "/developers/{id}")
-    public ResponseEntity<Response<DeveloperResponse>> getDeveloper(@PathVariable("id") Integer id) {
-        return ResponseFactory.success(developerService.getDeveloper(id), DeveloperResponse.class);
+    public ResponseEntity<Response<DeveloperResponse>> getDeveloper(@PathVariable("id") Integer id, WebRequest webRequest) {
+        if (ETagUtil.checkNotModified(webRequest, () -> developerService.getDeveloperETag(id))) {
+            return null;
+        }
+        DeveloperResponse developerResponse = developerService.getDeveloper(id);
+        return ResponseFactory.success(developerResponse, DeveloperResponse.class, ETagUtil.toETag(developerResponse.getVersion()));
     }
 
     @PutMapping(value = "/developers/{id}")
     public ResponseEntity<Response<DeveloperResponse>> updateDeveloper(@PathVariable("id") Integer id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
-        return ResponseFactory.success(developerService.updateDeveloper(id, developerCreateUpdateRequest), DeveloperResponse.class);
+        DeveloperResponse developerResponse = developerService.updateDeveloper(id, ETagUtil.parseIfMatch(ifMatch), developerCreateUpdateRequest);
+        return ResponseFactory.success(developerResponse, DeveloperResponse.class, ETagUtil.toETag(developerResponse.getVersion()));
     }
 
     @DeleteMapping(value = "/developers/{id}")
@@ -47,8 +74,14 @@ public class DeveloperController {
         return ResponseFactory.success();
     }
 
+    @DeleteMapping(value = "/developers", params = "ids")
+    public ResponseEntity<Response<BulkUpdateResponse>> deleteDevelopers(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(developerService.deleteDevelopers(ids), BulkUpdateResponse.class);
+    }
+
     @GetMapping(value = "/developers")
-    public ResponseEntity<Response<DeveloperListResponse>> getAllDeveloper() {
-        return ResponseFactory.success(developerService.getAllDeveloper(), DeveloperListResponse.class);
+    public ResponseEntity<Response<DeveloperListResponse>> getAllDeveloper(@RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseFactory.success(developerService.getAllDeveloper(cursor, limit), DeveloperListResponse.class);
     }
 }
@@ -1,47 +1,97 @@
 package com.example.issuetracker.controller;
 
+import com.example.issuetracker.config.WebConfiguration;
 import com.example.issuetracker.controller.request.AssigneeRequest;
 import com.example.issuetracker.controller.request.BugCreateRequest;
+import com.example.issuetracker.controller.request.BugPatchRequest;
 import com.example.issuetracker.controller.request.BugUpdateRequest;
+import com.example.issuetracker.controller.request.IssueBulkUpdateRequest;
 import com.example.issuetracker.controller.request.StoryCreateRequest;
+import com.example.issuetracker.controller.request.StoryPatchRequest;
 import com.example.issuetracker.controller.request.StoryUpdateRequest;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BugListResponse;
 import com.example.issuetracker.controller.response.BugResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
+import com.example.issuetracker.controller.response.StoryListResponse;
 import com.example.issuetracker.controller.response.StoryResponse;
 import com.example.issuetracker.domain.Response;
 import com.example.issuetracker.domain.ResponseFactory;
+import com.example.issuetracker.service.IssueExportService;
 import com.example.issuetracker.service.IssueService;
+import com.example.issuetracker.util.ETagUtil;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
-@RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfiguration.APPLICATION_SMILE_VALUE})
 @RequiredArgsConstructor
 public class IssueController {
 
+    public static final String APPLICATION_MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final IssueService issueService;
+    private final IssueExportService issueExportService;
 
     @PostMapping(value = "/stories")
     public ResponseEntity<Response<StoryResponse>> createStory(@RequestBody StoryCreateRequest storyCreateRequest) {
-        return ResponseFactory.success(issueService.createStory(storyCreateRequest), StoryResponse.class);
+        StoryResponse storyResponse = issueService.createStory(storyCreateRequest);
+        return ResponseFactory.success(storyResponse, StoryResponse.class, ETagUtil.toETag(storyResponse.getVersion()));
+    }
+
+    @PostMapping(value = "/stories/batch")
+    public ResponseEntity<Response<BatchResponse<StoryResponse>>> createStories(@RequestBody List<StoryCreateRequest> storyCreateRequests) {
+        return ResponseFactory.success(issueService.createStories(storyCreateRequests), BatchResponse.class);
+    }
+
+    @GetMapping(value = "/stories")
+    public ResponseEntity<Response<StoryListResponse>> getStories(@RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseFactory.success(issueService.getStories(cursor, limit), StoryListResponse.class);
+    }
+
+    @GetMapping(value = "/stories", params = "ids")
+    public ResponseEntity<Response<BatchResponse<StoryResponse>>> getStoriesByIds(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(issueService.getStoriesByIds(ids), BatchResponse.class);
     }
 
     @GetMapping(value = "/stories/{id}")
-    public ResponseEntity<Response<StoryResponse>> getStory(@PathVariable("id") Integer id) {
-        return ResponseFactory.success(issueService.getStory(id), StoryResponse.class);
+    public ResponseEntity<Response<StoryResponse>> getStory(@PathVariable("id") Integer id, WebRequest webRequest) {
+        if (ETagUtil.checkNotModified(webRequest, () -> issueService.getStoryETag(id))) {
+            return null;
+        }
+        StoryResponse storyResponse = issueService.getStory(id);
+        return ResponseFactory.success(storyResponse, StoryResponse.class, ETagUtil.toETag(storyResponse.getVersion()));
     }
 
     @PutMapping(value = "/stories/{id}")
-    public ResponseEntity<Response<StoryResponse>> updateStory(@PathVariable("id") Integer id, @RequestBody StoryUpdateRequest storyUpdateRequest) {
-        return ResponseFactory.success(issueService.updateStory(id, storyUpdateRequest), StoryResponse.class);
+    public ResponseEntity<Response<StoryResponse>> updateStory(@PathVariable("id") Integer id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody StoryUpdateRequest storyUpdateRequest) {
+        StoryResponse storyResponse = issueService.updateStory(id, ETagUtil.parseIfMatch(ifMatch), storyUpdateRequest);
+        return ResponseFactory.success(storyResponse, StoryResponse.class, ETagUtil.toETag(storyResponse.getVersion()));
+    }
+
+    @PatchMapping(value = "/stories/{id}", consumes = {APPLICATION_MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Response<StoryResponse>> patchStory(@PathVariable("id") Integer id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody StoryPatchRequest storyPatchRequest) {
+        StoryResponse storyResponse = issueService.patchStory(id, ETagUtil.parseIfMatch(ifMatch), storyPatchRequest);
+        return ResponseFactory.success(storyResponse, StoryResponse.class, ETagUtil.toETag(storyResponse.getVersion()));
     }
 
     @DeleteMapping(value = "/stories/{id}")
@@ -50,25 +100,72 @@ public class IssueController {
         return ResponseFactory.success();
     }
 
+    @DeleteMapping(value = "/stories", params = "ids")
+    public ResponseEntity<Response<BulkUpdateResponse>> deleteStories(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(issueService.deleteStories(ids), BulkUpdateResponse.class);
+    }
+
     @PostMapping(value = "/stories/{id}/developers")
     public ResponseEntity<Response<Object>> assignStoryDeveloper(@PathVariable("id") Integer id, @RequestBody AssigneeRequest assigneeRequest) {
         issueService.assignStoryDeveloper(id, assigneeRequest);
         return ResponseFactory.success();
     }
 
+    @PatchMapping(value = "/issues")
+    public ResponseEntity<Response<BulkUpdateResponse>> updateIssues(@RequestBody IssueBulkUpdateRequest issueBulkUpdateRequest) {
+        return ResponseFactory.success(issueService.updateIssues(issueBulkUpdateRequest), BulkUpdateResponse.class);
+    }
+
+    @GetMapping(value = "/issues/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportIssues() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(issueExportService::writeIssues);
+    }
+
     @PostMapping(value = "/bugs")
     public ResponseEntity<Response<BugResponse>> createBug(@RequestBody BugCreateRequest bugCreateRequest) {
-        return ResponseFactory.success(issueService.createBug(bugCreateRequest), BugResponse.class);
+        BugResponse bugResponse = issueService.createBug(bugCreateRequest);
+        return ResponseFactory.success(bugResponse, BugResponse.class, ETagUtil.toETag(bugResponse.getVersion()));
+    }
+
+    @PostMapping(value = "/bugs/batch")
+    public ResponseEntity<Response<BatchResponse<BugResponse>>> createBugs(@RequestBody List<BugCreateRequest> bugCreateRequests) {
+        return ResponseFactory.success(issueService.createBugs(bugCreateRequests), BatchResponse.class);
+    }
+
+    @GetMapping(value = "/bugs")
+    public ResponseEntity<Response<BugListResponse>> getBugs(@RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseFactory.success(issueService.getBugs(cursor, limit), BugListResponse.class);
+    }
+
+    @GetMapping(value = "/bugs", params = "ids")
+    public ResponseEntity<Response<BatchResponse<BugResponse>>> getBugsByIds(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(issueService.getBugsByIds(ids), BatchResponse.class);
     }
 
     @GetMapping(value = "/bugs/{id}")
-    public ResponseEntity<Response<BugResponse>> getBug(@PathVariable("id") Integer id) {
-        return ResponseFactory.success(issueService.getBug(id), BugResponse.class);
+    public ResponseEntity<Response<BugResponse>> getBug(@PathVariable("id") Integer id, WebRequest webRequest) {
+        if (ETagUtil.checkNotModified(webRequest, () -> issueService.getBugETag(id))) {
+            return null;
+        }
+        BugResponse bugResponse = issueService.getBug(id);
+        return ResponseFactory.success(bugResponse, BugResponse.class, ETagUtil.toETag(bugResponse.getVersion()));
     }
 
     @PutMapping(value = "/bugs/{id}")
-    public ResponseEntity<Response<BugResponse>> updateBug(@PathVariable("id") Integer id, @RequestBody BugUpdateRequest bugUpdateRequest) {
-        return ResponseFactory.success(issueService.updateBug(id, bugUpdateRequest), BugResponse.class);
+    public ResponseEntity<Response<BugResponse>> updateBug(@PathVariable("id") Integer id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody BugUpdateRequest bugUpdateRequest) {
+        BugResponse bugResponse = issueService.updateBug(id, ETagUtil.parseIfMatch(ifMatch), bugUpdateRequest);
+        return ResponseFactory.success(bugResponse, BugResponse.class, ETagUtil.toETag(bugResponse.getVersion()));
+    }
+
+    @PatchMapping(value = "/bugs/{id}", consumes = {APPLICATION_MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Response<BugResponse>> patchBug(@PathVariable("id") Integer id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody BugPatchRequest bugPatchRequest) {
+        BugResponse bugResponse = issueService.patchBug(id, ETagUtil.parseIfMatch(ifMatch), bugPatchRequest);
+        return ResponseFactory.success(bugResponse, BugResponse.class, ETagUtil.toETag(bugResponse.getVersion()));
     }
 
     @DeleteMapping(value = "/bugs/{id}")
@@ -77,6 +174,11 @@ public class IssueController {
         return ResponseFactory.success();
     }
 
+    @DeleteMapping(value = "/bugs", params = "ids")
+    public ResponseEntity<Response<BulkUpdateResponse>> deleteBugs(@RequestParam("ids") List<Integer> ids) {
+        return ResponseFactory.success(issueService.deleteBugs(ids), BulkUpdateResponse.class);
+    }
+
     @PostMapping(value = "/bugs/{id}/developers")
     public ResponseEntity<Response<Object>> assignBugDeveloper(@PathVariable("id") Integer id, @RequestBody AssigneeRequest assigneeRequest) {
         issueService.assignBugDeveloper(id, assigneeRequest);
@@ -1,25 +1,106 @@
 package com.example.issuetracker.controller;
 
-import com.example.issuetracker.controller.response.PlanListResponse;
+import com.example.issuetracker.config.WebConfiguration;
+import com.example.issuetracker.controller.request.PlanSimulationRequest;
+import com.example.issuetracker.controller.response.DeveloperPlanListResponse;
+import com.example.issuetracker.controller.response.ForecastListResponse;
+import com.example.issuetracker.controller.response.PlanSimulationResponse;
+import com.example.issuetracker.controller.response.PlanWindowResponse;
+import com.example.issuetracker.domain.PlanSnapshot;
 import com.example.issuetracker.domain.Response;
 import com.example.issuetracker.domain.ResponseFactory;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.service.DeveloperPlanService;
+import com.example.issuetracker.service.ForecastService;
 import com.example.issuetracker.service.PlanService;
+import com.example.issuetracker.service.PlanSimulationService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
-@RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WebConfiguration.APPLICATION_SMILE_VALUE})
 @RequiredArgsConstructor
 public class PlanController {
 
+    private static final List<MediaType> BINARY_MEDIA_TYPES = List.of(MediaType.APPLICATION_CBOR,
+        MediaType.valueOf(WebConfiguration.APPLICATION_SMILE_VALUE));
+
     private final PlanService planService;
+    private final DeveloperPlanService developerPlanService;
+    private final ForecastService forecastService;
+    private final PlanSimulationService planSimulationService;
 
+    /**
+     * Serves JSON from the cached snapshot bytes and CBOR or Smile from the cached plan, with the snapshot ETag for every encoding.
+     */
     @GetMapping(value = "/plan")
-    public ResponseEntity<Response<PlanListResponse>> getPlan() {
-        return ResponseFactory.success(planService.getPlan(), PlanListResponse.class);
+    public ResponseEntity<?> getPlan(WebRequest webRequest) {
+        PlanSnapshot planSnapshot = planService.getPlanSnapshot();
+        if (webRequest.checkNotModified(planSnapshot.getETag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag(planSnapshot.getETag())
+            .varyBy(HttpHeaders.ACCEPT);
+        if (isBinaryPreferred(webRequest)) {
+            return builder.body(new Response<>(ResponseMessageEnum.SUCCESS.getMessage(), planSnapshot.getPlan()));
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON)
+            .body(planSnapshot.getBody());
+    }
+
+    @GetMapping(value = "/plan", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlan() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(planService::writePlan);
+    }
+
+    @GetMapping(value = "/plan", params = "toWeek")
+    public ResponseEntity<Response<PlanWindowResponse>> getPlanWindow(
+        @RequestParam(value = "fromWeek", required = false, defaultValue = "1") Integer fromWeek,
+        @RequestParam(value = "toWeek") Integer toWeek) {
+        return ResponseFactory.success(planService.getPlanWindow(fromWeek, toWeek), PlanWindowResponse.class);
+    }
+
+    @GetMapping(value = "/plan/developers")
+    public ResponseEntity<Response<DeveloperPlanListResponse>> getDeveloperPlan() {
+        return ResponseFactory.success(developerPlanService.getDeveloperPlan(), DeveloperPlanListResponse.class);
+    }
+
+    @GetMapping(value = "/plan/forecast")
+    public ResponseEntity<Response<ForecastListResponse>> getForecast(@RequestParam(value = "simulations", required = false) Integer simulations,
+        @RequestParam(value = "seed", required = false) Long seed) {
+        return ResponseFactory.success(forecastService.getForecast(simulations, seed), ForecastListResponse.class);
+    }
+
+    @PostMapping(value = "/plan/simulate")
+    public ResponseEntity<Response<PlanSimulationResponse>> simulatePlan(@RequestBody PlanSimulationRequest planSimulationRequest) {
+        return ResponseFactory.success(planSimulationService.simulatePlan(planSimulationRequest), PlanSimulationResponse.class);
+    }
+
+    private boolean isBinaryPreferred(WebRequest webRequest) {
+        List<MediaType> acceptedMediaTypes = MediaType.parseMediaTypes(webRequest.getHeader(HttpHeaders.ACCEPT));
+        MediaType.sortBySpecificityAndQuality(acceptedMediaTypes);
+        for (MediaType acceptedMediaType : acceptedMediaTypes) {
+            if (acceptedMediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (BINARY_MEDIA_TYPES.stream().anyMatch(acceptedMediaType::isCompatibleWith)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
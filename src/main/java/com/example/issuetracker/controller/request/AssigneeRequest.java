@@ -1,8 +1,8 @@
 package com.example.issuetracker.controller.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -12,9 +12,24 @@ import lombok.ToString;
 @Setter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class AssigneeRequest {
 
     private Integer id;
+    private Integer expectedId;
+    @JsonIgnore
+    private boolean expectedIdPresent;
+
+    public AssigneeRequest(Integer id) {
+        this.id = id;
+    }
+
+    /**
+     * An explicit {@code "expected_id": null} makes the assignment conditional on the issue being unassigned, so presence is tracked
+     * separately from the value.
+     */
+    public void setExpectedId(Integer expectedId) {
+        this.expectedId = expectedId;
+        this.expectedIdPresent = true;
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.issuetracker.controller.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A JSON Merge Patch of a bug. Only the members present in the document are applied, so presence is tracked separately from the
+ * value and an explicit {@code null} clears the field.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class BugPatchRequest {
+
+    private String title;
+    private String description;
+    private String priority;
+    private String status;
+    @JsonIgnore
+    private boolean titlePresent;
+    @JsonIgnore
+    private boolean descriptionPresent;
+    @JsonIgnore
+    private boolean priorityPresent;
+    @JsonIgnore
+    private boolean statusPresent;
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.titlePresent = true;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPresent = true;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+        this.priorityPresent = true;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        this.statusPresent = true;
+    }
+}
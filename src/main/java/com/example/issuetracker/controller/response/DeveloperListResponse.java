@@ -18,4 +18,5 @@ import lombok.ToString;
 public class DeveloperListResponse {
 
     private List<DeveloperResponse> developers;
+    private String nextCursor;
 }
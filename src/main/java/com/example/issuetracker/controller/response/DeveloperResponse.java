@@ -1,8 +1,8 @@
 package com.example.issuetracker.controller.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -12,10 +12,16 @@ import lombok.ToString;
 @Setter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class DeveloperResponse {
 
     private Integer id;
     private String name;
+    @JsonIgnore
+    private Integer version;
+
+    public DeveloperResponse(Integer id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.issuetracker.controller.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.time.LocalDateTime;
@@ -24,4 +25,6 @@ public class StoryResponse {
     private LocalDateTime creationDate;
     private String status;
     private DeveloperResponse developer;
+    @JsonIgnore
+    private Integer version;
 }
@@ -0,0 +1,13 @@
+package com.example.issuetracker.domain;
+
+import java.util.Collection;
+import lombok.Value;
+
+/**
+ * Published when developers are updated or deleted, so anything derived from their data can be dropped.
+ */
+@Value
+public class DevelopersChangedEvent {
+
+    Collection<Integer> ids;
+}
@@ -0,0 +1,20 @@
+package com.example.issuetracker.domain;
+
+import com.example.issuetracker.repository.entity.IssueEntity;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class IssueBulkUpdate {
+
+    private final Class<? extends IssueEntity> entityType;
+    private final List<Integer> ids;
+    private final Enum<?> status;
+    private final Integer developerId;
+    private final Enum<?> newStatus;
+    private final Integer newDeveloperId;
+}
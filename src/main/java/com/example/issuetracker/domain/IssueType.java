@@ -5,4 +5,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum IssueType {
     STORY, BUG;
+
+    public static IssueType fromValue(String value) {
+        for (IssueType issueType : IssueType.values()) {
+            if (issueType.name().equalsIgnoreCase(value)) {
+                return issueType;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.issuetracker.domain;
+
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlanBacklog {
+
+    private final long version;
+    private final List<DeveloperResponse> developers;
+    private final List<IssueResponse> stories;
+}
@@ -0,0 +1,15 @@
+package com.example.issuetracker.domain;
+
+import com.example.issuetracker.controller.response.PlanListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlanSnapshot {
+
+    private final long version;
+    private final String eTag;
+    private final PlanListResponse plan;
+    private final byte[] body;
+}
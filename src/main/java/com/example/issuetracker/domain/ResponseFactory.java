@@ -4,6 +4,7 @@ import static com.example.issuetracker.domain.ResponseMessageEnum.SUCCESS;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 
 public final class ResponseFactory {
 
@@ -23,6 +24,17 @@ public final class ResponseFactory {
         return ResponseEntity.ok(response);
     }
 
+    public static ResponseEntity success(Object data, Class clazz, String eTag) {
+        Response<Object> response = new Response<>();
+        response.setMessage(SUCCESS.getMessage());
+        response.setData(clazz.cast(data));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (StringUtils.hasText(eTag)) {
+            builder.eTag(eTag);
+        }
+        return builder.body(response);
+    }
+
     public static ResponseEntity error(HttpStatus httpStatus, ResponseMessageEnum responseMessageEnum) {
         Response<Object> response = new Response<>();
         response.setMessage(responseMessageEnum.getMessage());
@@ -13,7 +13,22 @@ public enum ResponseMessageEnum {
     SUCCESS("Success"),
     DEVELOPER_NOT_FOUND("Developer not found"),
     STORY_NOT_FOUND("Story not found"),
-    BUG_NOT_FOUND("Bug not found");
+    BUG_NOT_FOUND("Bug not found"),
+    INVALID_SIMULATIONS("Invalid number of simulations"),
+    INVALID_WEEK_RANGE("Invalid week range"),
+    INVALID_STORY_POINT("Invalid story point"),
+    INVALID_PRIORITY("Invalid priority"),
+    INVALID_DEVELOPER_NAME("Invalid developer name"),
+    INVALID_REQUEST("Invalid request"),
+    INVALID_BATCH_SIZE("Invalid batch size"),
+    INVALID_ISSUE_TYPE("Invalid issue type"),
+    INVALID_STATUS("Invalid status"),
+    INVALID_FILTER("Invalid filter"),
+    INVALID_UPDATE("Invalid update"),
+    ASSIGNEE_CHANGED("Assignee changed"),
+    INVALID_PAGE_SIZE("Invalid page size"),
+    INVALID_CURSOR("Invalid cursor"),
+    VERSION_CHANGED("Version changed");
 
     private final String message;
 }
@@ -0,0 +1,17 @@
+package com.example.issuetracker.exception;
+
+import com.example.issuetracker.domain.ResponseMessageEnum;
+
+public class ConflictException extends RuntimeException {
+
+    private final ResponseMessageEnum responseMessage;
+
+    public ConflictException(ResponseMessageEnum responseMessage) {
+        super(responseMessage.getMessage());
+        this.responseMessage = responseMessage;
+    }
+
+    public ResponseMessageEnum getResponseMessage() {
+        return responseMessage;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.issuetracker.exception;
 
 import com.example.issuetracker.domain.ResponseFactory;
+import com.example.issuetracker.domain.ResponseMessageEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -19,4 +21,22 @@ public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
         log.error(e.getMessage(), e);
         return ResponseFactory.error(HttpStatus.BAD_REQUEST, e.getResponseMessage());
     }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Object> handleConflictException(ConflictException e) {
+        log.warn(e.getMessage());
+        return ResponseFactory.error(HttpStatus.CONFLICT, e.getResponseMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(PreconditionFailedException e) {
+        log.warn(e.getMessage());
+        return ResponseFactory.error(HttpStatus.PRECONDITION_FAILED, e.getResponseMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        log.warn(e.getMessage());
+        return ResponseFactory.error(HttpStatus.PRECONDITION_FAILED, ResponseMessageEnum.VERSION_CHANGED);
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.issuetracker.exception;
+
+import com.example.issuetracker.domain.ResponseMessageEnum;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    private final ResponseMessageEnum responseMessage;
+
+    public PreconditionFailedException(ResponseMessageEnum responseMessage) {
+        super(responseMessage.getMessage());
+        this.responseMessage = responseMessage;
+    }
+
+    public ResponseMessageEnum getResponseMessage() {
+        return responseMessage;
+    }
+}
@@ -1,8 +1,33 @@
 package com.example.issuetracker.repository;
 
 import com.example.issuetracker.repository.entity.BugEntity;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BugRepository extends JpaRepository<BugEntity, Integer> {
+public interface BugRepository extends JpaRepository<BugEntity, Integer>, IssueAssignmentRepository<BugEntity> {
 
+    @Query("select b.version from BugEntity b where b.id = :id")
+    public Optional<Integer> findVersionById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from BugEntity b where b.id = :id")
+    public int deleteBugById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from BugEntity b where b.id in :ids")
+    public int deleteBugsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Override
+    @EntityGraph(attributePaths = "developer")
+    public List<BugEntity> findAllById(Iterable<Integer> ids);
+
+    @EntityGraph(attributePaths = "developer")
+    public List<BugEntity> findByIdGreaterThanOrderById(Integer id, Pageable pageable);
 }
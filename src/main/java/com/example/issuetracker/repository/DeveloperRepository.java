@@ -1,8 +1,41 @@
 package com.example.issuetracker.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import com.example.issuetracker.repository.entity.DeveloperEntity;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface DeveloperRepository extends JpaRepository<DeveloperEntity, Integer> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    public List<DeveloperEntity> findAll();
+
+    @Override
+    @Query("select count(d) from DeveloperEntity d")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    public long count();
+
+    @Query("select d.version from DeveloperEntity d where d.id = :id")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    public Optional<Integer> findVersionById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from DeveloperEntity d where d.id = :id")
+    public int deleteDeveloperById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from DeveloperEntity d where d.id in :ids")
+    public int deleteDevelopersByIdIn(@Param("ids") Collection<Integer> ids);
+
+    public List<DeveloperEntity> findByIdGreaterThanOrderById(Integer id, Pageable pageable);
 }
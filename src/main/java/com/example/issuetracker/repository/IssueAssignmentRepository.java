@@ -0,0 +1,33 @@
+package com.example.issuetracker.repository;
+
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.entity.IssueEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Assigns a developer to an issue with a single UPDATE of {@code developer_id}. The developer is passed as a reference, so its
+ * existence is only checked by the foreign key. The conditional variants implement compare-and-set on the current assignee.
+ * Bulk updates bypass Hibernate's version check, so every statement increments the version itself.
+ */
+@NoRepositoryBean
+public interface IssueAssignmentRepository<T extends IssueEntity> extends CrudRepository<T, Integer> {
+
+    @Modifying
+    @Query("update #{#entityName} i set i.developer = :developer, i.version = i.version + 1 where i.id = :id")
+    public int assignDeveloper(@Param("id") Integer id, @Param("developer") DeveloperEntity developer);
+
+    @Modifying
+    @Query("update #{#entityName} i set i.developer = :developer, i.version = i.version + 1 "
+        + "where i.id = :id and i.developer.id = :expectedDeveloperId")
+    public int assignDeveloperIfAssignedTo(@Param("id") Integer id, @Param("developer") DeveloperEntity developer,
+        @Param("expectedDeveloperId") Integer expectedDeveloperId);
+
+    @Modifying
+    @Query("update #{#entityName} i set i.developer = :developer, i.version = i.version + 1 "
+        + "where i.id = :id and i.developer is null")
+    public int assignDeveloperIfUnassigned(@Param("id") Integer id, @Param("developer") DeveloperEntity developer);
+}
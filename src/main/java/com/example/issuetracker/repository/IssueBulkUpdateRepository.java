@@ -0,0 +1,8 @@
+package com.example.issuetracker.repository;
+
+import com.example.issuetracker.domain.IssueBulkUpdate;
+
+public interface IssueBulkUpdateRepository {
+
+    int bulkUpdate(IssueBulkUpdate issueBulkUpdate);
+}
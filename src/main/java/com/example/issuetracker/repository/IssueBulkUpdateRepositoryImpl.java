@@ -0,0 +1,61 @@
+package com.example.issuetracker.repository;
+
+import com.example.issuetracker.domain.IssueBulkUpdate;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+/**
+ * Runs a bulk change as a single JPQL UPDATE. The statement is built from the non-null parts of the {@link IssueBulkUpdate}, which a
+ * fixed {@code @Modifying @Query} cannot express, and the persistence context is flushed before and cleared after it like
+ * {@code @Modifying(flushAutomatically = true, clearAutomatically = true)} would. The version of every updated issue is incremented,
+ * because a bulk update is not version checked by Hibernate.
+ */
+class IssueBulkUpdateRepositoryImpl implements IssueBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkUpdate(IssueBulkUpdate issueBulkUpdate) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> assignments = new ArrayList<>();
+        assignments.add("i.version = i.version + 1");
+        if (Objects.nonNull(issueBulkUpdate.getNewStatus())) {
+            assignments.add("i.status = :newStatus");
+            parameters.put("newStatus", issueBulkUpdate.getNewStatus());
+        }
+        if (Objects.nonNull(issueBulkUpdate.getNewDeveloperId())) {
+            assignments.add("i.developer = :newDeveloper");
+            parameters.put("newDeveloper", entityManager.getReference(DeveloperEntity.class, issueBulkUpdate.getNewDeveloperId()));
+        }
+        List<String> conditions = new ArrayList<>();
+        if (Objects.nonNull(issueBulkUpdate.getIds())) {
+            conditions.add("i.id in :ids");
+            parameters.put("ids", issueBulkUpdate.getIds());
+        }
+        if (Objects.nonNull(issueBulkUpdate.getStatus())) {
+            conditions.add("i.status = :status");
+            parameters.put("status", issueBulkUpdate.getStatus());
+        }
+        if (Objects.nonNull(issueBulkUpdate.getDeveloperId())) {
+            conditions.add("i.developer.id = :developerId");
+            parameters.put("developerId", issueBulkUpdate.getDeveloperId());
+        }
+        String jpql = "update " + issueBulkUpdate.getEntityType().getSimpleName() + " i set " + String.join(", ", assignments)
+            + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions));
+
+        entityManager.flush();
+        Query query = entityManager.createQuery(jpql);
+        parameters.forEach(query::setParameter);
+        int affected = query.executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+}
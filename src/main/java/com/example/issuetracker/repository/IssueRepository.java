@@ -0,0 +1,19 @@
+package com.example.issuetracker.repository;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import com.example.issuetracker.repository.entity.IssueEntity;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface IssueRepository extends JpaRepository<IssueEntity, Integer>, IssueBulkUpdateRepository {
+
+    int EXPORT_FETCH_SIZE = 100;
+
+    @Query("select i from IssueEntity i left join fetch i.developer order by i.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    public Stream<IssueEntity> streamAllOrderById();
+}
@@ -1,11 +1,70 @@
 package com.example.issuetracker.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.example.issuetracker.domain.StoryStatus;
 import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.projection.PlanStory;
+import com.example.issuetracker.util.StreamUtil;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface StoryRepository extends JpaRepository<StoryEntity, Integer>, IssueAssignmentRepository<StoryEntity> {
+
+    String PLAN_STORY_QUERY = "select new com.example.issuetracker.repository.projection.PlanStory("
+        + "s.id, s.title, s.status, s.storyPoint, s.creationDate, d.id, d.name) "
+        + "from StoryEntity s left join s.developer d where s.status = :status "
+        + "order by s.type, s.status, s.creationDate, s.id";
+
+    @Query(PLAN_STORY_QUERY)
+    public List<PlanStory> findPlanStoriesByStatus(@Param("status") StoryStatus status);
+
+    @Query(PLAN_STORY_QUERY)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    public Stream<PlanStory> streamPlanStoriesByStatus(@Param("status") StoryStatus status);
+
+    public default List<PlanStory> findPlanStoriesByStatusIn(List<StoryStatus> statusList) {
+        return StreamUtil.mergeSorted(statusList.stream()
+                .map(status -> findPlanStoriesByStatus(status).stream())
+                .collect(Collectors.toList()), PlanStory.PLAN_ORDER)
+            .collect(Collectors.toList());
+    }
+
+    public default Stream<PlanStory> streamPlanStoriesByStatusIn(List<StoryStatus> statusList) {
+        return StreamUtil.mergeSorted(statusList.stream()
+            .map(this::streamPlanStoriesByStatus)
+            .collect(Collectors.toList()), PlanStory.PLAN_ORDER);
+    }
+
+    @Query("select coalesce(sum(s.storyPoint), 0) from StoryEntity s where s.status in :statusList")
+    public long sumStoryPointsByStatusIn(@Param("statusList") List<StoryStatus> statusList);
+
+    @Query("select s.version from StoryEntity s where s.id = :id")
+    public Optional<Integer> findVersionById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from StoryEntity s where s.id = :id")
+    public int deleteStoryById(@Param("id") Integer id);
+
+    @Modifying
+    @Query("delete from StoryEntity s where s.id in :ids")
+    public int deleteStoriesByIdIn(@Param("ids") Collection<Integer> ids);
 
-public interface StoryRepository extends JpaRepository<StoryEntity, Integer> {
+    @Override
+    @EntityGraph(attributePaths = "developer")
+    public List<StoryEntity> findAllById(Iterable<Integer> ids);
 
-    public List<StoryEntity> findByStatusIn(List<StoryStatus> statusList);
+    @EntityGraph(attributePaths = "developer")
+    public List<StoryEntity> findByIdGreaterThanOrderById(Integer id, Pageable pageable);
 }
@@ -9,9 +9,11 @@ import javax.persistence.Enumerated;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @DiscriminatorValue("BUG")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,22 +7,35 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
 @Table(name = "developer")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DeveloperEntity.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class DeveloperEntity {
 
+    public static final String CACHE_REGION = "developer";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_sequence")
+    @GenericGenerator(name = "developer_sequence", strategy = "com.example.issuetracker.repository.generator.PooledSequenceGenerator",
+        parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "developer_sequence"))
     private Integer id;
     @Column(name = "name")
     private String name;
+    @Version
+    private Integer version;
 
     @Override
     public boolean equals(Object o) {
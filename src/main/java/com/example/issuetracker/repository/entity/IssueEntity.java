@@ -17,12 +17,18 @@ import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
 @Table(name = "issue")
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type")
 @Getter
@@ -31,7 +37,9 @@ import lombok.Setter;
 public abstract class IssueEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_sequence")
+    @GenericGenerator(name = "issue_sequence", strategy = "com.example.issuetracker.repository.generator.PooledSequenceGenerator",
+        parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "issue_sequence"))
     private Integer id;
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false, insertable = false, updatable = false)
@@ -42,6 +50,8 @@ public abstract class IssueEntity {
     @ManyToOne
     @JoinColumn(name = "developer_id")
     private DeveloperEntity developer;
+    @Version
+    private Integer version;
 
     @Override
     public boolean equals(Object o) {
@@ -8,9 +8,11 @@ import javax.persistence.Enumerated;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @DiscriminatorValue("STORY")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
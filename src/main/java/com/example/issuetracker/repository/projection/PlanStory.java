@@ -0,0 +1,26 @@
+package com.example.issuetracker.repository.projection;
+
+import com.example.issuetracker.domain.StoryStatus;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class PlanStory {
+
+    public static final Comparator<PlanStory> PLAN_ORDER = Comparator
+        .comparing(PlanStory::getCreationDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(PlanStory::getId);
+
+    private final Integer id;
+    private final String title;
+    private final StoryStatus status;
+    private final Integer storyPoint;
+    private final LocalDateTime creationDate;
+    private final Integer developerId;
+    private final String developerName;
+}
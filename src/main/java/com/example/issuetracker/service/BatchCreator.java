@@ -0,0 +1,45 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.controller.response.BatchItemResponse;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+final class BatchCreator {
+
+    private BatchCreator() {
+    }
+
+    static <R, E, T> BatchResponse<T> createAll(List<R> requests, int maximumBatchSize, Function<R, Optional<ResponseMessageEnum>> validator,
+        Function<R, E> entityBuilder, UnaryOperator<List<E>> saver, Function<E, T> responseBuilder) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > maximumBatchSize) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        }
+        List<BatchItemResponse<T>> results = new ArrayList<>(requests.size());
+        List<BatchItemResponse<T>> validResults = new ArrayList<>(requests.size());
+        List<E> entities = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            R request = requests.get(index);
+            Optional<ResponseMessageEnum> error = Objects.isNull(request)
+                ? Optional.of(ResponseMessageEnum.INVALID_REQUEST)
+                : validator.apply(request);
+            BatchItemResponse<T> result = new BatchItemResponse<>(index, error.orElse(ResponseMessageEnum.SUCCESS).getMessage(), null);
+            results.add(result);
+            if (error.isEmpty()) {
+                validResults.add(result);
+                entities.add(entityBuilder.apply(request));
+            }
+        }
+        List<E> savedEntities = entities.isEmpty() ? entities : saver.apply(entities);
+        for (int index = 0; index < savedEntities.size(); index++) {
+            validResults.get(index).setData(responseBuilder.apply(savedEntities.get(index)));
+        }
+        return new BatchResponse<>(savedEntities.size(), results.size() - savedEntities.size(), results);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.controller.response.BatchItemResponse;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads many entities with one query and reports a result per requested id, in request order, so an unknown id only fails its own item.
+ */
+final class BatchFetcher {
+
+    private BatchFetcher() {
+    }
+
+    static <E, T> BatchResponse<T> fetchAll(List<Integer> ids, int maximumBatchSize, Function<Set<Integer>, List<E>> fetcher,
+        Function<E, Integer> idExtractor, Function<E, T> responseBuilder, ResponseMessageEnum notFound) {
+        if (Objects.isNull(ids) || ids.isEmpty() || ids.size() > maximumBatchSize) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        }
+        Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        Map<Integer, T> responses = new HashMap<>(distinctIds.size());
+        if (!distinctIds.isEmpty()) {
+            fetcher.apply(distinctIds).forEach(entity -> responses.put(idExtractor.apply(entity), responseBuilder.apply(entity)));
+        }
+        List<BatchItemResponse<T>> results = new ArrayList<>(ids.size());
+        int succeeded = 0;
+        for (int index = 0; index < ids.size(); index++) {
+            T response = responses.get(ids.get(index));
+            ResponseMessageEnum message = Objects.isNull(response) ? notFound : ResponseMessageEnum.SUCCESS;
+            if (Objects.nonNull(response)) {
+                succeeded++;
+            }
+            results.add(new BatchItemResponse<>(index, message.getMessage(), response));
+        }
+        return new BatchResponse<>(succeeded, results.size() - succeeded, results);
+    }
+}
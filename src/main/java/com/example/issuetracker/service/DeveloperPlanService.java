@@ -0,0 +1,201 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.DeveloperPlanListResponse;
+import com.example.issuetracker.controller.response.DeveloperPlanResponse;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DeveloperPlanService {
+
+    private static final int TIE_BREAK_CANDIDATES = 6;
+
+    private final ApplicationConfiguration applicationConfiguration;
+    private final PlanService planService;
+    private final ForkJoinPool planningForkJoinPool;
+
+    public DeveloperPlanListResponse getDeveloperPlan() {
+        log.info("Calculating developer plan");
+        PlanBacklog planBacklog = planService.getPlanBacklog();
+        List<DeveloperResponse> developers = planBacklog.getDevelopers();
+        log.debug("Number of developers found [{}]", developers.size());
+        DeveloperPlanListResponse response = new DeveloperPlanListResponse(0, new ArrayList<>());
+        if (developers.isEmpty()) {
+            return response;
+        }
+        List<IssueResponse> stories = planBacklog.getStories();
+        long capacity = applicationConfiguration.getAverageStoryPoint();
+        log.debug("Maximum story points [{}] per developer per week", capacity);
+
+        Assignment preAssignment = preAssign(developers, stories);
+        List<Integer> unassigned = IntStream.range(0, stories.size())
+            .filter(index -> !preAssignment.isAssigned(index))
+            .boxed()
+            .collect(Collectors.toList());
+        List<Callable<Assignment>> candidates = new ArrayList<>();
+        candidates.add(() -> balance(preAssignment, longestFirst(unassigned, stories, 0), stories));
+        candidates.add(() -> balance(preAssignment, unassigned, stories));
+        for (long seed = 1; seed <= TIE_BREAK_CANDIDATES; seed++) {
+            long tieBreakSeed = seed;
+            candidates.add(() -> balance(preAssignment, longestFirst(unassigned, stories, tieBreakSeed), stories));
+        }
+        Assignment assignment = invokeAll(candidates).stream()
+            .min(Comparator.comparingLong(Assignment::getMakespan))
+            .orElseThrow();
+        log.debug("Longest story points [{}] for a developer", assignment.getMakespan());
+
+        List<DeveloperPlanResponse> developerPlans = join(planningForkJoinPool.submit(() -> developers.parallelStream()
+            .map(developer -> buildDeveloperPlan(developer, assignment, stories, capacity))
+            .collect(Collectors.toList())));
+        response.setDeveloperPlans(developerPlans);
+        response.setWeeks(developerPlans.stream()
+            .mapToInt(developerPlan -> developerPlan.getPlans().isEmpty()
+                ? 0
+                : developerPlan.getPlans().get(developerPlan.getPlans().size() - 1).getWeek())
+            .max()
+            .orElse(0));
+        log.info("Developer plan calculated. Number of weeks [{}]", response.getWeeks());
+        return response;
+    }
+
+    private Assignment preAssign(List<DeveloperResponse> developers, List<IssueResponse> stories) {
+        Assignment assignment = new Assignment(developers);
+        for (int index = 0; index < stories.size(); index++) {
+            DeveloperResponse developer = stories.get(index).getDeveloper();
+            if (Objects.nonNull(developer) && assignment.hasDeveloper(developer.getId())) {
+                assignment.assign(developer.getId(), index, stories.get(index).getStoryPoint());
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * Orders stories longest first. Story points repeat a lot, so a non-zero seed shuffles the stories first and thereby breaks ties
+     * differently, giving another candidate for the same heuristic.
+     */
+    private List<Integer> longestFirst(List<Integer> storyIndexes, List<IssueResponse> stories, long seed) {
+        List<Integer> ordered = new ArrayList<>(storyIndexes);
+        if (seed != 0) {
+            Collections.shuffle(ordered, new Random(seed));
+        }
+        ordered.sort(Comparator.comparing((Integer index) -> stories.get(index).getStoryPoint()).reversed());
+        return ordered;
+    }
+
+    private Assignment balance(Assignment preAssignment, List<Integer> storyIndexes, List<IssueResponse> stories) {
+        Assignment assignment = new Assignment(preAssignment);
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+            Comparator.comparingLong(assignment::getLoad).thenComparing(Comparator.naturalOrder()));
+        leastLoaded.addAll(assignment.getDeveloperIds());
+        for (Integer index : storyIndexes) {
+            Integer developerId = leastLoaded.poll();
+            assignment.assign(developerId, index, stories.get(index).getStoryPoint());
+            leastLoaded.add(developerId);
+        }
+        return assignment;
+    }
+
+    private DeveloperPlanResponse buildDeveloperPlan(DeveloperResponse developer, Assignment assignment, List<IssueResponse> stories,
+        long capacity) {
+        List<PlanResponse> plans = new ArrayList<>();
+        DeveloperWeekPlanner weekPlanner = new DeveloperWeekPlanner(capacity, plans::add);
+        assignment.getStoryIndexes(developer.getId())
+            .stream()
+            .sorted()
+            .forEach(index -> weekPlanner.add(stories.get(index)));
+        weekPlanner.finish();
+        return new DeveloperPlanResponse(developer, assignment.getLoad(developer.getId()), plans);
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        return planningForkJoinPool.invokeAll(tasks)
+            .stream()
+            .map(this::join)
+            .collect(Collectors.toList());
+    }
+
+    private <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Developer plan calculation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Developer plan calculation failed", e.getCause());
+        }
+    }
+
+    private static class Assignment {
+
+        private final Map<Integer, Long> loads = new HashMap<>();
+        private final Map<Integer, List<Integer>> storyIndexes = new HashMap<>();
+        private final Map<Integer, Integer> developerByStoryIndex = new HashMap<>();
+        @Getter
+        private long makespan;
+
+        Assignment(List<DeveloperResponse> developers) {
+            developers.forEach(developer -> {
+                loads.put(developer.getId(), 0L);
+                storyIndexes.put(developer.getId(), new ArrayList<>());
+            });
+        }
+
+        Assignment(Assignment assignment) {
+            loads.putAll(assignment.loads);
+            assignment.storyIndexes.forEach((developerId, indexes) -> storyIndexes.put(developerId, new ArrayList<>(indexes)));
+            developerByStoryIndex.putAll(assignment.developerByStoryIndex);
+            makespan = assignment.makespan;
+        }
+
+        boolean hasDeveloper(Integer developerId) {
+            return loads.containsKey(developerId);
+        }
+
+        boolean isAssigned(Integer storyIndex) {
+            return developerByStoryIndex.containsKey(storyIndex);
+        }
+
+        List<Integer> getDeveloperIds() {
+            return new ArrayList<>(loads.keySet());
+        }
+
+        long getLoad(Integer developerId) {
+            return loads.get(developerId);
+        }
+
+        List<Integer> getStoryIndexes(Integer developerId) {
+            return storyIndexes.get(developerId);
+        }
+
+        void assign(Integer developerId, Integer storyIndex, long storyPoint) {
+            long load = loads.merge(developerId, storyPoint, Long::sum);
+            storyIndexes.get(developerId).add(storyIndex);
+            developerByStoryIndex.put(storyIndex, developerId);
+            makespan = Math.max(makespan, load);
+        }
+    }
+}
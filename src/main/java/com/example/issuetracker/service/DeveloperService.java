@@ -2,18 +2,30 @@ package com.example.issuetracker.service;
 
 import static com.example.issuetracker.util.ResponseBuilderUtil.buildDeveloperResponse;
 
+import com.example.issuetracker.config.ApplicationConfiguration;
 import com.example.issuetracker.controller.request.DeveloperCreateUpdateRequest;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
 import com.example.issuetracker.controller.response.DeveloperListResponse;
 import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.domain.DevelopersChangedEvent;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.exception.PreconditionFailedException;
 import com.example.issuetracker.repository.DeveloperRepository;
 import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.util.ETagUtil;
 import com.example.issuetracker.util.ResponseBuilderUtil;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 @Service
 @Slf4j
@@ -21,14 +33,31 @@ import org.springframework.stereotype.Service;
 public class DeveloperService {
 
     private final DeveloperRepository developerRepository;
+    private final PlanService planService;
+    private final ApplicationConfiguration applicationConfiguration;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public DeveloperResponse createDeveloper(DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
         log.debug("Create developer with request [{}]", developerCreateUpdateRequest);
         var developerEntity = developerRepository.save(buildDeveloperEntity(developerCreateUpdateRequest));
+        planService.developerSaved(developerEntity);
         log.info("Developer created with id [{}]", developerEntity.getId());
         return buildDeveloperResponse(developerEntity);
     }
 
+    @Transactional
+    public BatchResponse<DeveloperResponse> createDevelopers(List<DeveloperCreateUpdateRequest> developerCreateUpdateRequests) {
+        log.debug("Create developers with [{}] requests", Objects.isNull(developerCreateUpdateRequests) ? 0 : developerCreateUpdateRequests.size());
+        var batchResponse = BatchCreator.createAll(developerCreateUpdateRequests, applicationConfiguration.getBatchMaxSize(),
+            this::validateDeveloper, this::buildDeveloperEntity, developerEntities -> {
+                var savedDeveloperEntities = developerRepository.saveAll(developerEntities);
+                planService.developersSaved(savedDeveloperEntities);
+                return savedDeveloperEntities;
+            }, ResponseBuilderUtil::buildDeveloperResponse);
+        log.info("Developers created. Succeeded [{}] and failed [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
     public DeveloperResponse getDeveloper(Integer id) {
         log.debug("Get developer by id [{}]", id);
         var developerEntity = developerRepository.findById(id)
@@ -36,34 +65,71 @@ public class DeveloperService {
         return buildDeveloperResponse(developerEntity);
     }
 
-    public DeveloperResponse updateDeveloper(Integer id, DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
-        log.debug("Update developer by id [{}] with request [{}]", id, developerCreateUpdateRequest);
+    public BatchResponse<DeveloperResponse> getDevelopersByIds(List<Integer> ids) {
+        log.debug("Get developers by ids [{}]", ids);
+        var batchResponse = BatchFetcher.fetchAll(ids, applicationConfiguration.getBatchMaxSize(), developerRepository::findAllById,
+            DeveloperEntity::getId, ResponseBuilderUtil::buildDeveloperResponse, ResponseMessageEnum.DEVELOPER_NOT_FOUND);
+        log.info("Developers fetched by ids. Found [{}] and missing [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
+    public String getDeveloperETag(Integer id) {
+        log.debug("Get developer ETag by id [{}]", id);
+        return developerRepository.findVersionById(id).map(ETagUtil::toETag).orElse(null);
+    }
+
+    public DeveloperResponse updateDeveloper(Integer id, Integer expectedVersion, DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
+        log.debug("Update developer by id [{}] and version [{}] with request [{}]", id, expectedVersion, developerCreateUpdateRequest);
         var developerEntity = developerRepository.findById(id)
             .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND));
+        if (Objects.nonNull(expectedVersion) && !expectedVersion.equals(developerEntity.getVersion())) {
+            throw new PreconditionFailedException(ResponseMessageEnum.VERSION_CHANGED);
+        }
         developerEntity = developerRepository.save(buildDeveloperEntity(developerEntity, developerCreateUpdateRequest));
+        applicationEventPublisher.publishEvent(new DevelopersChangedEvent(List.of(id)));
+        planService.developerSaved(developerEntity);
         log.info("Developer with id [{}] updated", developerEntity.getId());
         return buildDeveloperResponse(developerEntity);
     }
 
+    @Transactional
     public void deleteDeveloper(Integer id) {
         log.debug("Delete developer by id [{}]", id);
-        boolean exists = developerRepository.existsById(id);
-        if (!exists) {
+        if (developerRepository.deleteDeveloperById(id) == 0) {
             throw new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
         }
-        developerRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(new DevelopersChangedEvent(List.of(id)));
+        planService.developerDeleted(id);
         log.info("Developer with id [{}] deleted", id);
     }
 
-    public DeveloperListResponse getAllDeveloper() {
-        log.debug("Get all developers");
-        var developerResponseList = developerRepository
-            .findAll()
-            .stream()
-            .map(ResponseBuilderUtil::buildDeveloperResponse)
-            .collect(Collectors.toList());
-        log.info("Developer fetched. Count [{}]", developerResponseList.size());
-        return new DeveloperListResponse(developerResponseList);
+    @Transactional
+    public BulkUpdateResponse deleteDevelopers(List<Integer> ids) {
+        log.debug("Delete developers by ids [{}]", ids);
+        if (CollectionUtils.isEmpty(ids) || ids.size() > applicationConfiguration.getBatchMaxSize()) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        }
+        int affected = developerRepository.deleteDevelopersByIdIn(ids);
+        applicationEventPublisher.publishEvent(new DevelopersChangedEvent(ids));
+        planService.developersDeleted(ids);
+        log.info("Developers deleted. Affected [{}]", affected);
+        return new BulkUpdateResponse(affected);
+    }
+
+    public DeveloperListResponse getAllDeveloper(String cursor, Integer limit) {
+        log.debug("Get developers after cursor [{}] with limit [{}]", cursor, limit);
+        var developerListResponse = KeysetPager.page(cursor, limit, applicationConfiguration.getPageDefaultSize(),
+            applicationConfiguration.getPageMaxSize(), developerRepository::findByIdGreaterThanOrderById, DeveloperEntity::getId,
+            ResponseBuilderUtil::buildDeveloperResponse, DeveloperListResponse::new);
+        log.info("Developer fetched. Count [{}]", developerListResponse.getDevelopers().size());
+        return developerListResponse;
+    }
+
+    private Optional<ResponseMessageEnum> validateDeveloper(DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
+        if (!StringUtils.hasText(developerCreateUpdateRequest.getName())) {
+            return Optional.of(ResponseMessageEnum.INVALID_DEVELOPER_NAME);
+        }
+        return Optional.empty();
     }
 
     private DeveloperEntity buildDeveloperEntity(DeveloperCreateUpdateRequest developerCreateUpdateRequest) {
@@ -0,0 +1,45 @@
+package com.example.issuetracker.service;
+
+import static com.example.issuetracker.util.ResponseBuilderUtil.buildPlanResponse;
+
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Packs one developer's stories into weeks of at most {@code capacity} story points. A story larger than the capacity gets a week of
+ * its own instead of leaving an empty week before it.
+ */
+class DeveloperWeekPlanner {
+
+    private final long capacity;
+    private final Consumer<PlanResponse> weekConsumer;
+    private List<IssueResponse> issueResponses = new ArrayList<>();
+    private int week = 1;
+    private long sumOfStoryPoints;
+
+    DeveloperWeekPlanner(long capacity, Consumer<PlanResponse> weekConsumer) {
+        this.capacity = capacity;
+        this.weekConsumer = weekConsumer;
+    }
+
+    void add(IssueResponse issueResponse) {
+        if (!issueResponses.isEmpty() && sumOfStoryPoints + issueResponse.getStoryPoint() > capacity) {
+            weekConsumer.accept(buildPlanResponse(week, issueResponses));
+            issueResponses = new ArrayList<>();
+            week += 1;
+            sumOfStoryPoints = 0;
+        }
+        sumOfStoryPoints += issueResponse.getStoryPoint();
+        issueResponses.add(issueResponse);
+    }
+
+    void finish() {
+        if (!issueResponses.isEmpty()) {
+            weekConsumer.accept(buildPlanResponse(week, issueResponses));
+            issueResponses = new ArrayList<>();
+        }
+    }
+}
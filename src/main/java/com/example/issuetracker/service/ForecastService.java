@@ -0,0 +1,133 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.ForecastListResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.StoryForecastResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ForecastService {
+
+    private static final double[] PERCENTILES = {0.50, 0.85, 0.95};
+
+    private final ApplicationConfiguration applicationConfiguration;
+    private final PlanService planService;
+    private final ForkJoinPool planningForkJoinPool;
+
+    public ForecastListResponse getForecast(Integer simulations, Long seed) {
+        int numberOfSimulations = Objects.nonNull(simulations) ? simulations : applicationConfiguration.getForecastSimulations();
+        if (numberOfSimulations <= 0 || numberOfSimulations > applicationConfiguration.getForecastMaxSimulations()) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_SIMULATIONS);
+        }
+        long forecastSeed = Objects.nonNull(seed) ? seed : ThreadLocalRandom.current().nextLong();
+        log.info("Calculating forecast with [{}] simulations and seed [{}]", numberOfSimulations, forecastSeed);
+        ForecastListResponse response = new ForecastListResponse(numberOfSimulations, forecastSeed, new ArrayList<>());
+        PlanBacklog planBacklog = planService.getPlanBacklog();
+        int numberOfDevelopers = planBacklog.getDevelopers().size();
+        List<IssueResponse> stories = planBacklog.getStories();
+        log.debug("Number of developers [{}] and stories [{}]", numberOfDevelopers, stories.size());
+        if (numberOfDevelopers == 0 || stories.isEmpty()) {
+            return response;
+        }
+        double averageVelocity = (double) numberOfDevelopers * applicationConfiguration.getAverageStoryPoint();
+        double velocitySpread = applicationConfiguration.getForecastVelocitySpread();
+        long[] cumulativeStoryPoints = new long[stories.size()];
+        long sumOfStoryPoints = 0;
+        for (int index = 0; index < stories.size(); index++) {
+            sumOfStoryPoints += stories.get(index).getStoryPoint();
+            cumulativeStoryPoints[index] = sumOfStoryPoints;
+        }
+
+        SplittableRandom random = new SplittableRandom(forecastSeed);
+        SplittableRandom[] randoms = new SplittableRandom[numberOfSimulations];
+        for (int simulation = 0; simulation < numberOfSimulations; simulation++) {
+            randoms[simulation] = random.split();
+        }
+        List<StoryForecastResponse> forecasts = new ArrayList<>(stories.size());
+        stories.forEach(story -> forecasts.add(new StoryForecastResponse(story.getId(), null, null, null)));
+        int numberOfWeeks = join(planningForkJoinPool.submit(() -> simulate(randoms, averageVelocity, velocitySpread,
+            cumulativeStoryPoints, forecasts)));
+        log.debug("Forecast covers [{}] weeks", numberOfWeeks);
+        response.setForecasts(forecasts);
+        log.info("Forecast calculated");
+        return response;
+    }
+
+    /**
+     * Advances all simulations one week at a time and assigns every story whose cumulative story points are covered by that week's
+     * percentile threshold, so only the current cumulative velocity of each simulation is kept. Each simulation draws from its own
+     * split random, which keeps the result reproducible for a seed however the work is scheduled.
+     */
+    private int simulate(SplittableRandom[] randoms, double averageVelocity, double velocitySpread, long[] cumulativeStoryPoints,
+        List<StoryForecastResponse> forecasts) {
+        int numberOfSimulations = randoms.length;
+        long totalStoryPoints = cumulativeStoryPoints[cumulativeStoryPoints.length - 1];
+        double[] cumulativeVelocities = new double[numberOfSimulations];
+        float[] velocities = new float[numberOfSimulations];
+        int[] nextStories = new int[PERCENTILES.length];
+        int week = 0;
+        // the highest percentile has the lowest threshold, so its stories are the last to be assigned
+        while (nextStories[PERCENTILES.length - 1] < forecasts.size()) {
+            week++;
+            IntStream.range(0, numberOfSimulations).parallel().forEach(simulation -> {
+                if (cumulativeVelocities[simulation] < totalStoryPoints) {
+                    cumulativeVelocities[simulation] += averageVelocity * (1 + velocitySpread * (2 * randoms[simulation].nextDouble() - 1));
+                }
+                velocities[simulation] = cumulativeVelocities[simulation] >= totalStoryPoints
+                    ? Float.POSITIVE_INFINITY
+                    : (float) cumulativeVelocities[simulation];
+            });
+            Arrays.sort(velocities);
+            for (int percentile = 0; percentile < PERCENTILES.length; percentile++) {
+                int completedSimulations = (int) Math.ceil(PERCENTILES[percentile] * numberOfSimulations - 1e-9);
+                double threshold = velocities[numberOfSimulations - completedSimulations];
+                while (nextStories[percentile] < forecasts.size() && threshold >= cumulativeStoryPoints[nextStories[percentile]]) {
+                    setWeek(forecasts.get(nextStories[percentile]++), percentile, week);
+                }
+            }
+        }
+        return week;
+    }
+
+    private void setWeek(StoryForecastResponse forecast, int percentile, int week) {
+        switch (percentile) {
+            case 0:
+                forecast.setP50(week);
+                break;
+            case 1:
+                forecast.setP85(week);
+                break;
+            default:
+                forecast.setP95(week);
+        }
+    }
+
+    private <T> T join(ForkJoinTask<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Forecast calculation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Forecast calculation failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.repository.IssueRepository;
+import com.example.issuetracker.repository.entity.IssueEntity;
+import com.example.issuetracker.util.ResponseBuilderUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes every story and bug as one JSON line. Issues are read through a cursor and the persistence context is cleared after each
+ * fetched batch, so neither the entities nor the output are ever held in memory as a whole.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class IssueExportService {
+
+    private final IssueRepository issueRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void writeIssues(OutputStream outputStream) throws IOException {
+        log.info("Exporting issues");
+        long exported = 0;
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+            Stream<IssueEntity> issueStream = issueRepository.streamAllOrderById()) {
+            jsonGenerator.setRootValueSeparator(null);
+            Iterator<IssueEntity> issueIterator = issueStream.iterator();
+            while (issueIterator.hasNext()) {
+                jsonGenerator.writeObject(ResponseBuilderUtil.buildIssueResponse(issueIterator.next()));
+                jsonGenerator.writeRaw('\n');
+                if (++exported % IssueRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    jsonGenerator.flush();
+                }
+            }
+        }
+        log.info("Issues exported. Count [{}]", exported);
+    }
+}
@@ -3,27 +3,50 @@ package com.example.issuetracker.service;
 import static com.example.issuetracker.util.ResponseBuilderUtil.buildBugResponse;
 import static com.example.issuetracker.util.ResponseBuilderUtil.buildStoryResponse;
 
+import com.example.issuetracker.config.ApplicationConfiguration;
 import com.example.issuetracker.controller.request.AssigneeRequest;
 import com.example.issuetracker.controller.request.BugCreateRequest;
+import com.example.issuetracker.controller.request.BugPatchRequest;
 import com.example.issuetracker.controller.request.BugUpdateRequest;
+import com.example.issuetracker.controller.request.IssueBulkUpdateRequest;
 import com.example.issuetracker.controller.request.StoryCreateRequest;
+import com.example.issuetracker.controller.request.StoryPatchRequest;
 import com.example.issuetracker.controller.request.StoryUpdateRequest;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BugListResponse;
 import com.example.issuetracker.controller.response.BugResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
+import com.example.issuetracker.controller.response.StoryListResponse;
 import com.example.issuetracker.controller.response.StoryResponse;
 import com.example.issuetracker.domain.BugStatus;
+import com.example.issuetracker.domain.IssueBulkUpdate;
+import com.example.issuetracker.domain.IssueType;
 import com.example.issuetracker.domain.Priority;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.domain.StoryStatus;
 import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.exception.ConflictException;
+import com.example.issuetracker.exception.PreconditionFailedException;
 import com.example.issuetracker.repository.BugRepository;
 import com.example.issuetracker.repository.DeveloperRepository;
+import com.example.issuetracker.repository.IssueAssignmentRepository;
+import com.example.issuetracker.repository.IssueRepository;
 import com.example.issuetracker.repository.StoryRepository;
 import com.example.issuetracker.repository.entity.BugEntity;
+import com.example.issuetracker.repository.entity.IssueEntity;
 import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.util.ETagUtil;
+import com.example.issuetracker.util.ResponseBuilderUtil;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 @Service
 @Slf4j
@@ -33,14 +56,31 @@ public class IssueService {
     private final StoryRepository storyRepository;
     private final BugRepository bugRepository;
     private final DeveloperRepository developerRepository;
+    private final IssueRepository issueRepository;
+    private final PlanService planService;
+    private final ApplicationConfiguration applicationConfiguration;
 
     public StoryResponse createStory(StoryCreateRequest storyCreateRequest) {
         log.debug("Create story with request [{}]", storyCreateRequest);
         var storyEntity = storyRepository.save(buildStoryEntity(storyCreateRequest));
+        planService.storySaved(storyEntity);
         log.info("Story created with id [{}]", storyEntity.getId());
         return buildStoryResponse(storyEntity);
     }
 
+    @Transactional
+    public BatchResponse<StoryResponse> createStories(List<StoryCreateRequest> storyCreateRequests) {
+        log.debug("Create stories with [{}] requests", Objects.isNull(storyCreateRequests) ? 0 : storyCreateRequests.size());
+        var batchResponse = BatchCreator.createAll(storyCreateRequests, applicationConfiguration.getBatchMaxSize(), this::validateStory,
+            this::buildStoryEntity, storyEntities -> {
+                var savedStoryEntities = storyRepository.saveAll(storyEntities);
+                planService.storiesSaved(savedStoryEntities);
+                return savedStoryEntities;
+            }, ResponseBuilderUtil::buildStoryResponse);
+        log.info("Stories created. Succeeded [{}] and failed [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
     public StoryResponse getStory(Integer id) {
         log.debug("Get story by id [{}]", id);
         var storyEntity = storyRepository.findById(id)
@@ -48,25 +88,75 @@ public class IssueService {
         return buildStoryResponse(storyEntity);
     }
 
-    public StoryResponse updateStory(Integer id, StoryUpdateRequest storyUpdateRequest) {
-        log.debug("Update story by id [{}] with request [{}]", id, storyUpdateRequest);
+    public BatchResponse<StoryResponse> getStoriesByIds(List<Integer> ids) {
+        log.debug("Get stories by ids [{}]", ids);
+        var batchResponse = BatchFetcher.fetchAll(ids, applicationConfiguration.getBatchMaxSize(), storyRepository::findAllById,
+            StoryEntity::getId, ResponseBuilderUtil::buildStoryResponse, ResponseMessageEnum.STORY_NOT_FOUND);
+        log.info("Stories fetched by ids. Found [{}] and missing [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
+    public String getStoryETag(Integer id) {
+        log.debug("Get story ETag by id [{}]", id);
+        return storyRepository.findVersionById(id).map(ETagUtil::toETag).orElse(null);
+    }
+
+    public StoryListResponse getStories(String cursor, Integer limit) {
+        log.debug("Get stories after cursor [{}] with limit [{}]", cursor, limit);
+        var storyListResponse = KeysetPager.page(cursor, limit, applicationConfiguration.getPageDefaultSize(),
+            applicationConfiguration.getPageMaxSize(), storyRepository::findByIdGreaterThanOrderById, StoryEntity::getId,
+            ResponseBuilderUtil::buildStoryResponse, StoryListResponse::new);
+        log.info("Stories fetched. Count [{}]", storyListResponse.getStories().size());
+        return storyListResponse;
+    }
+
+    public StoryResponse updateStory(Integer id, Integer expectedVersion, StoryUpdateRequest storyUpdateRequest) {
+        log.debug("Update story by id [{}] and version [{}] with request [{}]", id, expectedVersion, storyUpdateRequest);
         var storyEntity = storyRepository.findById(id)
             .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND));
+        checkVersion(expectedVersion, storyEntity.getVersion());
         storyEntity = storyRepository.save(buildStoryEntity(storyEntity, storyUpdateRequest));
+        planService.storySaved(storyEntity);
         log.info("Story with id [{}] updated", id);
         return buildStoryResponse(storyEntity);
     }
 
+    /**
+     * Applies the patch to the managed entity, so the flush only writes the columns that actually changed and checks the version in
+     * the same statement.
+     */
+    @Transactional
+    public StoryResponse patchStory(Integer id, Integer expectedVersion, StoryPatchRequest storyPatchRequest) {
+        log.debug("Patch story by id [{}] and version [{}] with request [{}]", id, expectedVersion, storyPatchRequest);
+        var storyEntity = storyRepository.findById(id)
+            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND));
+        checkVersion(expectedVersion, storyEntity.getVersion());
+        storyEntity = storyRepository.saveAndFlush(patchStoryEntity(storyEntity, storyPatchRequest));
+        planService.storySaved(storyEntity);
+        log.info("Story with id [{}] patched", id);
+        return buildStoryResponse(storyEntity);
+    }
+
+    @Transactional
     public void deleteStory(Integer id) {
         log.debug("Delete story by id [{}]", id);
-        boolean exists = storyRepository.existsById(id);
-        if (!exists) {
+        if (storyRepository.deleteStoryById(id) == 0) {
             throw new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND);
         }
-        storyRepository.deleteById(id);
+        planService.storyDeleted(id);
         log.info("Story with id [{}] deleted", id);
     }
 
+    @Transactional
+    public BulkUpdateResponse deleteStories(List<Integer> ids) {
+        log.debug("Delete stories by ids [{}]", ids);
+        validateIds(ids);
+        int affected = storyRepository.deleteStoriesByIdIn(ids);
+        planService.storiesDeleted(ids);
+        log.info("Stories deleted. Affected [{}]", affected);
+        return new BulkUpdateResponse(affected);
+    }
+
     public BugResponse createBug(BugCreateRequest bugCreateRequest) {
         log.debug("Create bug with request [{}]", bugCreateRequest);
         var bugEntity = bugRepository.save(buildBugEntity(bugCreateRequest));
@@ -74,6 +164,15 @@ public class IssueService {
         return buildBugResponse(bugEntity);
     }
 
+    @Transactional
+    public BatchResponse<BugResponse> createBugs(List<BugCreateRequest> bugCreateRequests) {
+        log.debug("Create bugs with [{}] requests", Objects.isNull(bugCreateRequests) ? 0 : bugCreateRequests.size());
+        var batchResponse = BatchCreator.createAll(bugCreateRequests, applicationConfiguration.getBatchMaxSize(), this::validateBug,
+            this::buildBugEntity, bugRepository::saveAll, ResponseBuilderUtil::buildBugResponse);
+        log.info("Bugs created. Succeeded [{}] and failed [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
     public BugResponse getBug(Integer id) {
         log.debug("Get bug by id [{}]", id);
         var bugEntity = bugRepository.findById(id)
@@ -81,48 +180,203 @@ public class IssueService {
         return buildBugResponse(bugEntity);
     }
 
-    public BugResponse updateBug(Integer id, BugUpdateRequest bugUpdateRequest) {
-        log.debug("Update bug by id [{}] with request [{}]", id, bugUpdateRequest);
+    public BatchResponse<BugResponse> getBugsByIds(List<Integer> ids) {
+        log.debug("Get bugs by ids [{}]", ids);
+        var batchResponse = BatchFetcher.fetchAll(ids, applicationConfiguration.getBatchMaxSize(), bugRepository::findAllById,
+            BugEntity::getId, ResponseBuilderUtil::buildBugResponse, ResponseMessageEnum.BUG_NOT_FOUND);
+        log.info("Bugs fetched by ids. Found [{}] and missing [{}]", batchResponse.getSucceeded(), batchResponse.getFailed());
+        return batchResponse;
+    }
+
+    public String getBugETag(Integer id) {
+        log.debug("Get bug ETag by id [{}]", id);
+        return bugRepository.findVersionById(id).map(ETagUtil::toETag).orElse(null);
+    }
+
+    public BugListResponse getBugs(String cursor, Integer limit) {
+        log.debug("Get bugs after cursor [{}] with limit [{}]", cursor, limit);
+        var bugListResponse = KeysetPager.page(cursor, limit, applicationConfiguration.getPageDefaultSize(),
+            applicationConfiguration.getPageMaxSize(), bugRepository::findByIdGreaterThanOrderById, BugEntity::getId,
+            ResponseBuilderUtil::buildBugResponse, BugListResponse::new);
+        log.info("Bugs fetched. Count [{}]", bugListResponse.getBugs().size());
+        return bugListResponse;
+    }
+
+    public BugResponse updateBug(Integer id, Integer expectedVersion, BugUpdateRequest bugUpdateRequest) {
+        log.debug("Update bug by id [{}] and version [{}] with request [{}]", id, expectedVersion, bugUpdateRequest);
         var bugEntity = bugRepository.findById(id)
             .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.BUG_NOT_FOUND));
+        checkVersion(expectedVersion, bugEntity.getVersion());
         bugEntity = bugRepository.save(buildBugEntity(bugEntity, bugUpdateRequest));
         log.info("Bug with id [{}] updated", id);
         return buildBugResponse(bugEntity);
     }
 
+    @Transactional
+    public BugResponse patchBug(Integer id, Integer expectedVersion, BugPatchRequest bugPatchRequest) {
+        log.debug("Patch bug by id [{}] and version [{}] with request [{}]", id, expectedVersion, bugPatchRequest);
+        var bugEntity = bugRepository.findById(id)
+            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.BUG_NOT_FOUND));
+        checkVersion(expectedVersion, bugEntity.getVersion());
+        bugEntity = bugRepository.saveAndFlush(patchBugEntity(bugEntity, bugPatchRequest));
+        log.info("Bug with id [{}] patched", id);
+        return buildBugResponse(bugEntity);
+    }
+
+    @Transactional
     public void deleteBug(Integer id) {
         log.debug("Delete bug by id [{}]", id);
-        boolean exists = bugRepository.existsById(id);
-        if (!exists) {
+        if (bugRepository.deleteBugById(id) == 0) {
             throw new BadRequestException(ResponseMessageEnum.BUG_NOT_FOUND);
         }
-        bugRepository.deleteById(id);
         log.info("Bug with id [{}] deleted", id);
     }
 
+    @Transactional
+    public BulkUpdateResponse deleteBugs(List<Integer> ids) {
+        log.debug("Delete bugs by ids [{}]", ids);
+        validateIds(ids);
+        int affected = bugRepository.deleteBugsByIdIn(ids);
+        log.info("Bugs deleted. Affected [{}]", affected);
+        return new BulkUpdateResponse(affected);
+    }
+
+    @Transactional
+    public BulkUpdateResponse updateIssues(IssueBulkUpdateRequest issueBulkUpdateRequest) {
+        log.debug("Update issues with request [{}]", issueBulkUpdateRequest);
+        var filter = issueBulkUpdateRequest.getFilter();
+        var update = issueBulkUpdateRequest.getUpdate();
+        if (Objects.isNull(filter) || (CollectionUtils.isEmpty(filter.getIds()) && Objects.isNull(filter.getType())
+            && Objects.isNull(filter.getStatus()) && Objects.isNull(filter.getDeveloperId()))) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_FILTER);
+        }
+        if (Objects.nonNull(filter.getIds()) && filter.getIds().size() > applicationConfiguration.getBatchMaxSize()) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        }
+        if (Objects.isNull(update) || (Objects.isNull(update.getStatus()) && Objects.isNull(update.getDeveloperId()))) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_UPDATE);
+        }
+        var issueType = Objects.isNull(filter.getType()) ? null : parseIssueType(filter.getType());
+        var status = Objects.isNull(filter.getStatus()) ? null : parseStatus(issueType, filter.getStatus());
+        var newStatus = Objects.isNull(update.getStatus()) ? null : parseStatus(issueType, update.getStatus());
+        if (Objects.nonNull(update.getDeveloperId()) && developerRepository.findById(update.getDeveloperId()).isEmpty()) {
+            throw new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
+        }
+        var entityType = issueType == IssueType.STORY ? StoryEntity.class : issueType == IssueType.BUG ? BugEntity.class : IssueEntity.class;
+        var ids = CollectionUtils.isEmpty(filter.getIds()) ? null : filter.getIds();
+        int affected = issueRepository.bulkUpdate(
+            new IssueBulkUpdate(entityType, ids, status, filter.getDeveloperId(), newStatus, update.getDeveloperId()));
+        if (affected > 0 && issueType != IssueType.BUG) {
+            planService.issuesBulkUpdated();
+        }
+        log.info("Issues updated. Affected [{}]", affected);
+        return new BulkUpdateResponse(affected);
+    }
+
 
+    @Transactional
     public void assignStoryDeveloper(Integer id, AssigneeRequest assigneeRequest) {
         log.debug("Assign developer [{}] for story with id [{}]", assigneeRequest.getId(), id);
-        var storyEntity = storyRepository.findById(id)
-            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND));
-        var developerEntity = developerRepository.findById(assigneeRequest.getId())
-            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND));
-        storyEntity.setDeveloper(developerEntity);
-        storyRepository.save(storyEntity);
+        assignDeveloper(storyRepository, id, assigneeRequest, ResponseMessageEnum.STORY_NOT_FOUND);
+        planService.storyAssigned(id, assigneeRequest.getId());
         log.info("Developer [{}] assigned to story with id [{}]", assigneeRequest.getId(), id);
     }
 
+    @Transactional
     public void assignBugDeveloper(Integer id, AssigneeRequest assigneeRequest) {
         log.debug("Assign developer [{}] for bug with id [{}]", assigneeRequest.getId(), id);
-        var bugEntity = bugRepository.findById(id)
-            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.BUG_NOT_FOUND));
-        var developerEntity = developerRepository.findById(assigneeRequest.getId())
-            .orElseThrow(() -> new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND));
-        bugEntity.setDeveloper(developerEntity);
-        bugRepository.save(bugEntity);
+        assignDeveloper(bugRepository, id, assigneeRequest, ResponseMessageEnum.BUG_NOT_FOUND);
         log.info("Developer [{}] assigned to bug with id [{}]", assigneeRequest.getId(), id);
     }
 
+    private void assignDeveloper(IssueAssignmentRepository<?> issueAssignmentRepository, Integer id, AssigneeRequest assigneeRequest,
+        ResponseMessageEnum notFound) {
+        if (Objects.isNull(assigneeRequest.getId())) {
+            throw new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
+        }
+        var developerEntity = developerRepository.getById(assigneeRequest.getId());
+        int updated;
+        try {
+            if (!assigneeRequest.isExpectedIdPresent()) {
+                updated = issueAssignmentRepository.assignDeveloper(id, developerEntity);
+            } else if (Objects.isNull(assigneeRequest.getExpectedId())) {
+                updated = issueAssignmentRepository.assignDeveloperIfUnassigned(id, developerEntity);
+            } else {
+                updated = issueAssignmentRepository.assignDeveloperIfAssignedTo(id, developerEntity, assigneeRequest.getExpectedId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
+        }
+        if (updated == 0) {
+            if (assigneeRequest.isExpectedIdPresent() && issueAssignmentRepository.existsById(id)) {
+                throw new ConflictException(ResponseMessageEnum.ASSIGNEE_CHANGED);
+            }
+            throw new BadRequestException(notFound);
+        }
+    }
+
+    /**
+     * Rejects an update based on a stale version. A change committed after this check is still caught when the detached entity is
+     * merged, because the merge compares its version with the current row and fails with an optimistic locking exception.
+     */
+    private void checkVersion(Integer expectedVersion, Integer version) {
+        if (Objects.nonNull(expectedVersion) && !expectedVersion.equals(version)) {
+            throw new PreconditionFailedException(ResponseMessageEnum.VERSION_CHANGED);
+        }
+    }
+
+    private void validateIds(List<Integer> ids) {
+        if (CollectionUtils.isEmpty(ids) || ids.size() > applicationConfiguration.getBatchMaxSize()) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        }
+    }
+
+    private IssueType parseIssueType(String value) {
+        try {
+            return IssueType.fromValue(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_ISSUE_TYPE);
+        }
+    }
+
+    private Enum<?> parseStatus(IssueType issueType, String value) {
+        try {
+            if (issueType == IssueType.STORY) {
+                return StoryStatus.fromValue(value);
+            }
+            if (issueType == IssueType.BUG) {
+                return BugStatus.fromValue(value);
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Unknown [{}] status [{}]", issueType, value);
+        }
+        throw new BadRequestException(ResponseMessageEnum.INVALID_STATUS);
+    }
+
+    private Priority parsePriority(String value) {
+        try {
+            return Priority.fromValue(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_PRIORITY);
+        }
+    }
+
+    private Optional<ResponseMessageEnum> validateStory(StoryCreateRequest request) {
+        if (Objects.isNull(request.getStoryPoint()) || request.getStoryPoint() < 0) {
+            return Optional.of(ResponseMessageEnum.INVALID_STORY_POINT);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ResponseMessageEnum> validateBug(BugCreateRequest request) {
+        try {
+            Priority.fromValue(request.getPriority());
+            return Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.of(ResponseMessageEnum.INVALID_PRIORITY);
+        }
+    }
+
     private StoryEntity buildStoryEntity(StoryCreateRequest request) {
         StoryEntity storyEntity = new StoryEntity();
         storyEntity.setTitle(request.getTitle());
@@ -141,6 +395,26 @@ public class IssueService {
         return storyEntity;
     }
 
+    private StoryEntity patchStoryEntity(StoryEntity storyEntity, StoryPatchRequest request) {
+        if (request.isStoryPointPresent() && (Objects.isNull(request.getStoryPoint()) || request.getStoryPoint() < 0)) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_STORY_POINT);
+        }
+        var status = request.isStatusPresent() ? (StoryStatus) parseStatus(IssueType.STORY, request.getStatus()) : null;
+        if (request.isTitlePresent()) {
+            storyEntity.setTitle(request.getTitle());
+        }
+        if (request.isDescriptionPresent()) {
+            storyEntity.setDescription(request.getDescription());
+        }
+        if (request.isStoryPointPresent()) {
+            storyEntity.setStoryPoint(request.getStoryPoint());
+        }
+        if (Objects.nonNull(status)) {
+            storyEntity.setStatus(status);
+        }
+        return storyEntity;
+    }
+
     private BugEntity buildBugEntity(BugCreateRequest request) {
         BugEntity bugEntity = new BugEntity();
         bugEntity.setTitle(request.getTitle());
@@ -158,4 +432,22 @@ public class IssueService {
         bugEntity.setStatus(BugStatus.fromValue(request.getStatus()));
         return bugEntity;
     }
+
+    private BugEntity patchBugEntity(BugEntity bugEntity, BugPatchRequest request) {
+        var priority = request.isPriorityPresent() ? parsePriority(request.getPriority()) : null;
+        var status = request.isStatusPresent() ? (BugStatus) parseStatus(IssueType.BUG, request.getStatus()) : null;
+        if (request.isTitlePresent()) {
+            bugEntity.setTitle(request.getTitle());
+        }
+        if (request.isDescriptionPresent()) {
+            bugEntity.setDescription(request.getDescription());
+        }
+        if (Objects.nonNull(priority)) {
+            bugEntity.setPriority(priority);
+        }
+        if (Objects.nonNull(status)) {
+            bugEntity.setStatus(status);
+        }
+        return bugEntity;
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Pages through a table by id instead of by offset: the cursor carries the last id of the previous page and the next page is read
+ * with {@code id > cursor order by id}, which is a primary key range scan whatever the page number. One extra row is read to know
+ * whether there is a next page.
+ */
+final class KeysetPager {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private KeysetPager() {
+    }
+
+    static <E, T, R> R page(String cursor, Integer limit, int defaultPageSize, int maximumPageSize,
+        BiFunction<Integer, Pageable, List<E>> finder, Function<E, Integer> idGetter, Function<E, T> responseBuilder,
+        BiFunction<List<T>, String, R> pageBuilder) {
+        int pageSize = Objects.nonNull(limit) ? limit : defaultPageSize;
+        if (pageSize <= 0 || pageSize > maximumPageSize) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_PAGE_SIZE);
+        }
+        Integer afterId = Objects.nonNull(cursor) ? decode(cursor) : Integer.MIN_VALUE;
+        List<E> entities = finder.apply(afterId, PageRequest.ofSize(pageSize + 1));
+        String nextCursor = null;
+        if (entities.size() > pageSize) {
+            entities = entities.subList(0, pageSize);
+            nextCursor = encode(idGetter.apply(entities.get(pageSize - 1)));
+        }
+        return pageBuilder.apply(entities.stream().map(responseBuilder).collect(Collectors.toList()), nextCursor);
+    }
+
+    static String encode(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Integer decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException(ResponseMessageEnum.INVALID_CURSOR);
+            }
+            return Integer.valueOf(value.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.issuetracker.service;
+
+import static com.example.issuetracker.util.ResponseBuilderUtil.buildDeveloperResponse;
+import static com.example.issuetracker.util.ResponseBuilderUtil.buildIssueResponse;
+
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.projection.PlanStory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+class PlanModel {
+
+    static final List<StoryStatus> PLANNED_STATUSES = List.of(StoryStatus.NEW, StoryStatus.ESTIMATED);
+    static final Comparator<IssueResponse> PLAN_ORDER = Comparator
+        .comparing(IssueResponse::getCreationDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(IssueResponse::getId);
+
+    private final NavigableMap<Integer, DeveloperResponse> developers = new TreeMap<>();
+    private final Map<Integer, IssueResponse> storiesById = new HashMap<>();
+    private final NavigableSet<IssueResponse> stories = new TreeSet<>(PLAN_ORDER);
+
+    void load(Collection<DeveloperEntity> developerEntities, Collection<PlanStory> planStories) {
+        developers.clear();
+        storiesById.clear();
+        stories.clear();
+        developerEntities.forEach(this::putDeveloper);
+        planStories.forEach(this::putStory);
+    }
+
+    void putDeveloper(DeveloperEntity developerEntity) {
+        DeveloperResponse developerResponse = buildDeveloperResponse(developerEntity);
+        DeveloperResponse previous = developers.put(developerEntity.getId(), developerResponse);
+        if (Objects.nonNull(previous) && !Objects.equals(previous.getName(), developerResponse.getName())) {
+            List.copyOf(stories).stream()
+                .filter(issueResponse -> isAssignedTo(issueResponse, developerEntity.getId()))
+                .forEach(issueResponse -> putStory(withDeveloper(issueResponse, developerResponse)));
+        }
+    }
+
+    void removeDeveloper(Integer id) {
+        developers.remove(id);
+    }
+
+    static PlanStory buildPlanStory(StoryEntity storyEntity) {
+        DeveloperEntity developerEntity = storyEntity.getDeveloper();
+        return new PlanStory(storyEntity.getId(), storyEntity.getTitle(), storyEntity.getStatus(), storyEntity.getStoryPoint(),
+            storyEntity.getCreationDate(),
+            Objects.nonNull(developerEntity) ? developerEntity.getId() : null,
+            Objects.nonNull(developerEntity) ? developerEntity.getName() : null);
+    }
+
+    void putStory(PlanStory planStory) {
+        if (PLANNED_STATUSES.contains(planStory.getStatus())) {
+            putStory(buildIssueResponse(planStory));
+        } else {
+            removeStory(planStory.getId());
+        }
+    }
+
+    boolean assignStory(Integer id, Integer developerId) {
+        DeveloperResponse developerResponse = developers.get(developerId);
+        if (Objects.isNull(developerResponse)) {
+            return false;
+        }
+        IssueResponse issueResponse = storiesById.get(id);
+        if (Objects.nonNull(issueResponse)) {
+            putStory(withDeveloper(issueResponse, developerResponse));
+        }
+        return true;
+    }
+
+    void removeStory(Integer id) {
+        IssueResponse previous = storiesById.remove(id);
+        if (Objects.nonNull(previous)) {
+            stories.remove(previous);
+        }
+    }
+
+    int getNumberOfDevelopers() {
+        return developers.size();
+    }
+
+    Collection<DeveloperResponse> getDevelopers() {
+        return Collections.unmodifiableCollection(developers.values());
+    }
+
+    Collection<IssueResponse> getStories() {
+        return Collections.unmodifiableCollection(stories);
+    }
+
+    private void putStory(IssueResponse issueResponse) {
+        removeStory(issueResponse.getId());
+        storiesById.put(issueResponse.getId(), issueResponse);
+        stories.add(issueResponse);
+    }
+
+    private static boolean isAssignedTo(IssueResponse issueResponse, Integer developerId) {
+        return Objects.nonNull(issueResponse.getDeveloper()) && Objects.equals(issueResponse.getDeveloper().getId(), developerId);
+    }
+
+    private static IssueResponse withDeveloper(IssueResponse issueResponse, DeveloperResponse developerResponse) {
+        return new IssueResponse(issueResponse.getId(), issueResponse.getType(), issueResponse.getTitle(), issueResponse.getDescription(),
+            issueResponse.getStoryPoint(), issueResponse.getCreationDate(), issueResponse.getStatus(), issueResponse.getPriority(),
+            developerResponse);
+    }
+}
@@ -1,24 +1,43 @@
 package com.example.issuetracker.service;
 
-import static com.example.issuetracker.util.ResponseBuilderUtil.buildIssueResponse;
-import static com.example.issuetracker.util.ResponseBuilderUtil.buildPlanResponse;
+import static com.example.issuetracker.domain.ResponseMessageEnum.SUCCESS;
 
 import com.example.issuetracker.config.ApplicationConfiguration;
 import com.example.issuetracker.controller.response.IssueResponse;
 import com.example.issuetracker.controller.response.PlanListResponse;
 import com.example.issuetracker.controller.response.PlanResponse;
-import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.controller.response.PlanWindowResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.PlanSnapshot;
+import com.example.issuetracker.domain.Response;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
 import com.example.issuetracker.repository.DeveloperRepository;
 import com.example.issuetracker.repository.StoryRepository;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
 import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.projection.PlanStory;
+import com.example.issuetracker.util.ResponseBuilderUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 
 @Service
 @Slf4j
@@ -28,38 +47,255 @@ public class PlanService {
     private final ApplicationConfiguration applicationConfiguration;
     private final DeveloperRepository developerRepository;
     private final StoryRepository storyRepository;
+    private final ObjectMapper objectMapper;
+
+    private final String planEpoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final PlanModel planModel = new PlanModel();
+    private boolean planModelLoaded;
+    private long planVersion;
+    private PlanSnapshot planSnapshot;
+    private PlanBacklog planBacklog;
 
     public PlanListResponse getPlan() {
+        return getPlanSnapshot().getPlan();
+    }
+
+    public synchronized String getPlanETag() {
+        return buildPlanETag(planVersion);
+    }
+
+    public synchronized PlanSnapshot getPlanSnapshot() {
+        if (Objects.isNull(planSnapshot) || planSnapshot.getVersion() != planVersion) {
+            PlanListResponse planListResponse = calculatePlan();
+            planSnapshot = new PlanSnapshot(planVersion, buildPlanETag(planVersion), planListResponse, serialize(planListResponse));
+        }
+        return planSnapshot;
+    }
+
+    public synchronized PlanBacklog getPlanBacklog() {
+        if (Objects.isNull(planBacklog) || planBacklog.getVersion() != planVersion) {
+            loadPlanModel();
+            planBacklog = new PlanBacklog(planVersion, List.copyOf(planModel.getDevelopers()), List.copyOf(planModel.getStories()));
+        }
+        return planBacklog;
+    }
+
+    public void storySaved(StoryEntity storyEntity) {
+        storiesSaved(List.of(storyEntity));
+    }
+
+    /**
+     * Copies the stories before registering the change, so a managed entity that is changed or rolled back later never reaches the
+     * plan.
+     */
+    public void storiesSaved(Collection<StoryEntity> storyEntities) {
+        List<PlanStory> planStories = storyEntities.stream().map(PlanModel::buildPlanStory).collect(Collectors.toList());
+        afterCommit(() -> applyStoriesSaved(planStories));
+    }
+
+    public void storyAssigned(Integer id, Integer developerId) {
+        afterCommit(() -> applyStoryAssigned(id, developerId));
+    }
+
+    public void storyDeleted(Integer id) {
+        storiesDeleted(List.of(id));
+    }
+
+    public void storiesDeleted(Collection<Integer> ids) {
+        afterCommit(() -> applyStoriesDeleted(ids));
+    }
+
+    public void developerSaved(DeveloperEntity developerEntity) {
+        developersSaved(List.of(developerEntity));
+    }
+
+    public void developersSaved(Collection<DeveloperEntity> developerEntities) {
+        afterCommit(() -> applyDevelopersSaved(developerEntities));
+    }
+
+    public void developerDeleted(Integer id) {
+        developersDeleted(List.of(id));
+    }
+
+    public void developersDeleted(Collection<Integer> ids) {
+        afterCommit(() -> applyDevelopersDeleted(ids));
+    }
+
+    public void issuesBulkUpdated() {
+        afterCommit(this::applyIssuesBulkUpdated);
+    }
+
+    private synchronized void applyStoriesSaved(Collection<PlanStory> planStories) {
+        planVersion++;
+        if (planModelLoaded) {
+            planStories.forEach(planModel::putStory);
+        }
+    }
+
+    private synchronized void applyStoryAssigned(Integer id, Integer developerId) {
+        planVersion++;
+        if (planModelLoaded && !planModel.assignStory(id, developerId)) {
+            planModelLoaded = false;
+        }
+    }
+
+    private synchronized void applyStoriesDeleted(Collection<Integer> ids) {
+        planVersion++;
+        if (planModelLoaded) {
+            ids.forEach(planModel::removeStory);
+        }
+    }
+
+    private synchronized void applyDevelopersSaved(Collection<DeveloperEntity> developerEntities) {
+        planVersion++;
+        if (planModelLoaded) {
+            developerEntities.forEach(planModel::putDeveloper);
+        }
+    }
+
+    private synchronized void applyDevelopersDeleted(Collection<Integer> ids) {
+        planVersion++;
+        if (planModelLoaded) {
+            ids.forEach(planModel::removeDeveloper);
+        }
+    }
+
+    private synchronized void applyIssuesBulkUpdated() {
+        planVersion++;
+        planModelLoaded = false;
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    private PlanListResponse calculatePlan() {
         log.info("Calculating plan");
+        loadPlanModel();
         PlanListResponse response = new PlanListResponse();
-        long numberOfDevelopers = developerRepository.count();
+        long numberOfDevelopers = planModel.getNumberOfDevelopers();
         log.debug("Number of developers found [{}]", numberOfDevelopers);
         if (numberOfDevelopers > 0) {
             long maximumStoryPoints = numberOfDevelopers * applicationConfiguration.getAverageStoryPoint();
             log.debug("Maximum story points [{}] per week", maximumStoryPoints);
-            List<StoryEntity> storyList = storyRepository.findByStatusIn(List.of(StoryStatus.NEW, StoryStatus.ESTIMATED));
+            Collection<IssueResponse> storyList = planModel.getStories();
             log.debug("Number of new and estimated stories [{}]", storyList.size());
             if (!CollectionUtils.isEmpty(storyList)) {
-                MultiValueMap<Integer, IssueResponse> weekPlan = new LinkedMultiValueMap<>();
-                int week = 1;
-                long sumOfStoryPoints = 0;
-                for (StoryEntity storyEntity : storyList) {
-                    sumOfStoryPoints += storyEntity.getStoryPoint();
-                    if (sumOfStoryPoints >= maximumStoryPoints) {
-                        week += 1;
-                        sumOfStoryPoints = storyEntity.getStoryPoint();
-                    }
-                    weekPlan.add(week, buildIssueResponse(storyEntity));
-                }
-                List<PlanResponse> planResponseList = weekPlan.entrySet()
-                    .stream()
-                    .map(entry -> buildPlanResponse(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
+                List<PlanResponse> planResponseList = new ArrayList<>();
+                WeekPlanner weekPlanner = new WeekPlanner(maximumStoryPoints, planResponseList::add);
+                storyList.forEach(weekPlanner::add);
+                weekPlanner.finish();
                 response.setPlans(planResponseList);
-                log.info("Number of weeks [{}]", week);
+                log.info("Number of weeks [{}]", weekPlanner.getWeek());
             }
         }
         log.info("Plan calculated");
         return response;
     }
+
+    @Transactional(readOnly = true)
+    public void writePlan(OutputStream outputStream) throws IOException {
+        log.info("Streaming plan");
+        long numberOfDevelopers = developerRepository.count();
+        log.debug("Number of developers found [{}]", numberOfDevelopers);
+        if (numberOfDevelopers == 0) {
+            return;
+        }
+        long maximumStoryPoints = numberOfDevelopers * applicationConfiguration.getAverageStoryPoint();
+        log.debug("Maximum story points [{}] per week", maximumStoryPoints);
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+            Stream<PlanStory> storyStream = storyRepository.streamPlanStoriesByStatusIn(PlanModel.PLANNED_STATUSES)) {
+            jsonGenerator.setRootValueSeparator(null);
+            WeekPlanner weekPlanner = new WeekPlanner(maximumStoryPoints, planResponse -> writeLine(jsonGenerator, planResponse));
+            storyStream.map(ResponseBuilderUtil::buildIssueResponse).forEach(weekPlanner::add);
+            weekPlanner.finish();
+            log.info("Plan streamed. Number of weeks [{}]", weekPlanner.getWeek());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PlanWindowResponse getPlanWindow(int fromWeek, int toWeek) {
+        if (fromWeek < 1 || toWeek < fromWeek) {
+            throw new BadRequestException(ResponseMessageEnum.INVALID_WEEK_RANGE);
+        }
+        log.info("Calculating plan from week [{}] to week [{}]", fromWeek, toWeek);
+        PlanWindowResponse response = new PlanWindowResponse(fromWeek, toWeek, 0, new ArrayList<>());
+        long numberOfDevelopers = developerRepository.count();
+        log.debug("Number of developers found [{}]", numberOfDevelopers);
+        if (numberOfDevelopers == 0) {
+            return response;
+        }
+        long maximumStoryPoints = numberOfDevelopers * applicationConfiguration.getAverageStoryPoint();
+        log.debug("Maximum story points [{}] per week", maximumStoryPoints);
+        long scannedStoryPoints = 0;
+        try (Stream<PlanStory> storyStream = storyRepository.streamPlanStoriesByStatusIn(PlanModel.PLANNED_STATUSES)) {
+            WeekPlanner weekPlanner = new WeekPlanner(maximumStoryPoints, planResponse -> {
+                if (planResponse.getWeek() >= fromWeek && planResponse.getWeek() <= toWeek) {
+                    response.getPlans().add(planResponse);
+                }
+            });
+            Iterator<PlanStory> storyIterator = storyStream.iterator();
+            while (storyIterator.hasNext() && weekPlanner.getWeek() <= toWeek) {
+                IssueResponse issueResponse = ResponseBuilderUtil.buildIssueResponse(storyIterator.next());
+                scannedStoryPoints += issueResponse.getStoryPoint();
+                weekPlanner.add(issueResponse);
+            }
+            if (weekPlanner.getWeek() <= toWeek) {
+                weekPlanner.finish();
+                response.setTotalWeeks(scannedStoryPoints > 0 ? weekPlanner.getWeek() : 0);
+            } else {
+                int completedWeeks = weekPlanner.getWeek() - 1;
+                long pendingStoryPoints = weekPlanner.getPendingStoryPoints();
+                long remainingStoryPoints = storyRepository.sumStoryPointsByStatusIn(PlanModel.PLANNED_STATUSES)
+                    - scannedStoryPoints + pendingStoryPoints;
+                long filledStoryPoints = scannedStoryPoints - pendingStoryPoints;
+                double storyPointsPerWeek = filledStoryPoints > 0 ? (double) filledStoryPoints / completedWeeks : maximumStoryPoints;
+                long remainingWeeks = Math.max(1, (long) Math.ceil(remainingStoryPoints / storyPointsPerWeek));
+                response.setTotalWeeks((int) (completedWeeks + remainingWeeks));
+            }
+        }
+        log.info("Plan window calculated. Number of weeks [{}]", response.getTotalWeeks());
+        return response;
+    }
+
+    private void writeLine(JsonGenerator jsonGenerator, PlanResponse planResponse) {
+        try {
+            jsonGenerator.writeObject(planResponse);
+            jsonGenerator.writeRaw('\n');
+            jsonGenerator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String buildPlanETag(long version) {
+        return "\"" + planEpoch + "-" + version + "\"";
+    }
+
+    private byte[] serialize(PlanListResponse planListResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(new Response<>(SUCCESS.getMessage(), planListResponse));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Plan could not be serialized", e);
+        }
+    }
+
+    private void loadPlanModel() {
+        if (!planModelLoaded) {
+            log.debug("Loading plan model");
+            planModel.load(developerRepository.findAll(), storyRepository.findPlanStoriesByStatusIn(PlanModel.PLANNED_STATUSES));
+            planModelLoaded = true;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.issuetracker.service;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.request.PlanSimulationRequest;
+import com.example.issuetracker.controller.request.PlanSimulationStoryRequest;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanSimulationResponse;
+import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PlanSimulationService {
+
+    private final ApplicationConfiguration applicationConfiguration;
+    private final PlanService planService;
+
+    public PlanSimulationResponse simulatePlan(PlanSimulationRequest planSimulationRequest) {
+        PlanBacklog planBacklog = planService.getPlanBacklog();
+        log.info("Simulating plan on backlog version [{}]", planBacklog.getVersion());
+        int numberOfDevelopers = planBacklog.getDevelopers().size()
+            + Objects.requireNonNullElse(planSimulationRequest.getDeveloperChange(), 0);
+        PlanSimulationResponse response = new PlanSimulationResponse(planBacklog.getVersion(), Math.max(0, numberOfDevelopers), 0,
+            new ArrayList<>());
+
+        Map<Integer, IssueResponse> indexedStories = new HashMap<>();
+        planBacklog.getStories().forEach(issueResponse -> indexedStories.put(issueResponse.getId(), issueResponse));
+        Set<Integer> removedStories = new HashSet<>(
+            Objects.requireNonNullElse(planSimulationRequest.getRemovedStories(), Collections.emptyList()));
+        Map<Integer, IssueResponse> changedStories = new HashMap<>();
+        List<IssueResponse> addedStories = new ArrayList<>();
+        for (PlanSimulationStoryRequest storyRequest
+            : Objects.requireNonNullElse(planSimulationRequest.getStories(), Collections.<PlanSimulationStoryRequest>emptyList())) {
+            if (Objects.isNull(storyRequest.getStoryPoint()) || storyRequest.getStoryPoint() < 0) {
+                throw new BadRequestException(ResponseMessageEnum.INVALID_STORY_POINT);
+            }
+            if (Objects.isNull(storyRequest.getId())) {
+                addedStories.add(new IssueResponse(null, IssueType.STORY.name(), storyRequest.getTitle(), null,
+                    storyRequest.getStoryPoint(), null, StoryStatus.NEW.name(), null, null));
+            } else if (indexedStories.containsKey(storyRequest.getId())) {
+                changedStories.put(storyRequest.getId(), withStoryPoint(indexedStories.get(storyRequest.getId()), storyRequest));
+            } else {
+                throw new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND);
+            }
+        }
+        if (!indexedStories.keySet().containsAll(removedStories)) {
+            throw new BadRequestException(ResponseMessageEnum.STORY_NOT_FOUND);
+        }
+        log.debug("Simulating [{}] developers, [{}] removed, [{}] changed and [{}] added stories", response.getDevelopers(),
+            removedStories.size(), changedStories.size(), addedStories.size());
+        if (response.getDevelopers() == 0) {
+            return response;
+        }
+
+        long maximumStoryPoints = (long) response.getDevelopers() * applicationConfiguration.getAverageStoryPoint();
+        WeekPlanner weekPlanner = new WeekPlanner(maximumStoryPoints, response.getPlans()::add);
+        planBacklog.getStories()
+            .stream()
+            .filter(issueResponse -> !removedStories.contains(issueResponse.getId()))
+            .map(issueResponse -> changedStories.getOrDefault(issueResponse.getId(), issueResponse))
+            .forEach(weekPlanner::add);
+        addedStories.forEach(weekPlanner::add);
+        weekPlanner.finish();
+        response.setWeeks(response.getPlans().isEmpty() ? 0 : weekPlanner.getWeek());
+        log.info("Plan simulated. Number of weeks [{}]", response.getWeeks());
+        return response;
+    }
+
+    private static IssueResponse withStoryPoint(IssueResponse issueResponse, PlanSimulationStoryRequest storyRequest) {
+        return new IssueResponse(issueResponse.getId(), issueResponse.getType(),
+            Objects.requireNonNullElse(storyRequest.getTitle(), issueResponse.getTitle()), issueResponse.getDescription(),
+            storyRequest.getStoryPoint(), issueResponse.getCreationDate(), issueResponse.getStatus(), issueResponse.getPriority(),
+            issueResponse.getDeveloper());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.issuetracker.service;
+
+import static com.example.issuetracker.util.ResponseBuilderUtil.buildPlanResponse;
+
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+class WeekPlanner {
+
+    private final long maximumStoryPoints;
+    private final Consumer<PlanResponse> weekConsumer;
+    private List<IssueResponse> issueResponses = new ArrayList<>();
+    private int week = 1;
+    private long sumOfStoryPoints;
+
+    WeekPlanner(long maximumStoryPoints, Consumer<PlanResponse> weekConsumer) {
+        this.maximumStoryPoints = maximumStoryPoints;
+        this.weekConsumer = weekConsumer;
+    }
+
+    void add(IssueResponse issueResponse) {
+        sumOfStoryPoints += issueResponse.getStoryPoint();
+        if (sumOfStoryPoints >= maximumStoryPoints) {
+            completeWeek();
+            week += 1;
+            sumOfStoryPoints = issueResponse.getStoryPoint();
+        }
+        issueResponses.add(issueResponse);
+    }
+
+    void finish() {
+        completeWeek();
+    }
+
+    int getWeek() {
+        return week;
+    }
+
+    long getPendingStoryPoints() {
+        return issueResponses.isEmpty() ? 0 : sumOfStoryPoints;
+    }
+
+    private void completeWeek() {
+        if (!issueResponses.isEmpty()) {
+            weekConsumer.accept(buildPlanResponse(week, issueResponses));
+            issueResponses = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.issuetracker.util;
+
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.PreconditionFailedException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Maps the {@code @Version} of an entity to a strong ETag and back. An {@code If-Match} value that is not a version can never match the
+ * current one, so it fails the precondition instead of being rejected as a bad request.
+ */
+public final class ETagUtil {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private ETagUtil() {
+    }
+
+    public static String toETag(Integer version) {
+        return Objects.isNull(version) ? null : QUOTE + version + QUOTE;
+    }
+
+    /**
+     * Returns the version expected by an {@code If-Match} header, or {@code null} when the header is absent or {@code *}.
+     */
+    public static Integer parseIfMatch(String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith(WEAK_PREFIX)) {
+            throw new PreconditionFailedException(ResponseMessageEnum.VERSION_CHANGED);
+        }
+        if (eTag.length() > 1 && eTag.startsWith(QUOTE) && eTag.endsWith(QUOTE)) {
+            eTag = eTag.substring(1, eTag.length() - 1);
+        }
+        try {
+            return Integer.valueOf(eTag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(ResponseMessageEnum.VERSION_CHANGED);
+        }
+    }
+
+    /**
+     * Answers a conditional GET from the current ETag alone. The ETag is only looked up when the request carries
+     * {@code If-None-Match}, so unconditional requests do not pay for the extra query. When it does not match, the response is left
+     * untouched, so the body loaded afterwards is labelled with its own version rather than the one looked up here.
+     */
+    public static boolean checkNotModified(WebRequest webRequest, Supplier<String> eTagSupplier) {
+        String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (Objects.isNull(ifNoneMatch) || !StringUtils.hasText(String.join("", ifNoneMatch))) {
+            return false;
+        }
+        String eTag = eTagSupplier.get();
+        return matchesAny(ifNoneMatch, eTag) && webRequest.checkNotModified(eTag);
+    }
+
+    private static boolean matchesAny(String[] ifNoneMatch, String eTag) {
+        if (Objects.isNull(eTag)) {
+            return false;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(HttpHeaders.IF_NONE_MATCH, Arrays.asList(ifNoneMatch));
+        return headers.getIfNoneMatch()
+            .stream()
+            .anyMatch(value -> ANY.equals(value) || stripWeakPrefix(value).equals(stripWeakPrefix(eTag)));
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
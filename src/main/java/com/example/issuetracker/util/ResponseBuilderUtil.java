@@ -5,9 +5,12 @@ import com.example.issuetracker.controller.response.DeveloperResponse;
 import com.example.issuetracker.controller.response.IssueResponse;
 import com.example.issuetracker.controller.response.PlanResponse;
 import com.example.issuetracker.controller.response.StoryResponse;
+import com.example.issuetracker.domain.IssueType;
 import com.example.issuetracker.repository.entity.BugEntity;
 import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.entity.IssueEntity;
 import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.projection.PlanStory;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,6 +30,7 @@ public final class ResponseBuilderUtil {
         if (Objects.nonNull(storyEntity.getDeveloper())) {
             storyResponse.setDeveloper(buildDeveloperResponse(storyEntity.getDeveloper()));
         }
+        storyResponse.setVersion(storyEntity.getVersion());
         return storyResponse;
     }
 
@@ -41,11 +45,14 @@ public final class ResponseBuilderUtil {
         if (Objects.nonNull(bugEntity.getDeveloper())) {
             bugResponse.setDeveloper(buildDeveloperResponse(bugEntity.getDeveloper()));
         }
+        bugResponse.setVersion(bugEntity.getVersion());
         return bugResponse;
     }
 
     public static DeveloperResponse buildDeveloperResponse(DeveloperEntity developerEntity) {
-        return new DeveloperResponse(developerEntity.getId(), developerEntity.getName());
+        DeveloperResponse developerResponse = new DeveloperResponse(developerEntity.getId(), developerEntity.getName());
+        developerResponse.setVersion(developerEntity.getVersion());
+        return developerResponse;
     }
 
     public static PlanResponse buildPlanResponse(Integer week, List<IssueResponse> issueResponses) {
@@ -66,4 +73,40 @@ public final class ResponseBuilderUtil {
         }
         return issueResponse;
     }
+
+    public static IssueResponse buildIssueResponse(BugEntity bugEntity) {
+        IssueResponse issueResponse = new IssueResponse();
+        issueResponse.setId(bugEntity.getId());
+        issueResponse.setType(bugEntity.getType().name());
+        issueResponse.setTitle(bugEntity.getTitle());
+        issueResponse.setDescription(bugEntity.getDescription());
+        issueResponse.setCreationDate(bugEntity.getCreationDate());
+        issueResponse.setStatus(bugEntity.getStatus().name());
+        issueResponse.setPriority(bugEntity.getPriority().name());
+        if (Objects.nonNull(bugEntity.getDeveloper())) {
+            issueResponse.setDeveloper(buildDeveloperResponse(bugEntity.getDeveloper()));
+        }
+        return issueResponse;
+    }
+
+    public static IssueResponse buildIssueResponse(IssueEntity issueEntity) {
+        if (issueEntity instanceof StoryEntity) {
+            return buildIssueResponse((StoryEntity) issueEntity);
+        }
+        return buildIssueResponse((BugEntity) issueEntity);
+    }
+
+    public static IssueResponse buildIssueResponse(PlanStory planStory) {
+        IssueResponse issueResponse = new IssueResponse();
+        issueResponse.setId(planStory.getId());
+        issueResponse.setType(IssueType.STORY.name());
+        issueResponse.setTitle(planStory.getTitle());
+        issueResponse.setStoryPoint(planStory.getStoryPoint());
+        issueResponse.setCreationDate(planStory.getCreationDate());
+        issueResponse.setStatus(planStory.getStatus().name());
+        if (Objects.nonNull(planStory.getDeveloperId())) {
+            issueResponse.setDeveloper(new DeveloperResponse(planStory.getDeveloperId(), planStory.getDeveloperName()));
+        }
+        return issueResponse;
+    }
 }
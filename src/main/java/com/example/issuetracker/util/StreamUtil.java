@@ -0,0 +1,75 @@
+package com.example.issuetracker.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class StreamUtil {
+
+    private StreamUtil() {
+    }
+
+    public static <T> Stream<T> mergeSorted(List<Stream<T>> streams, Comparator<? super T> comparator) {
+        if (streams.size() == 1) {
+            return streams.get(0);
+        }
+        Iterator<T> iterator = new MergingIterator<>(streams.stream().map(Stream::iterator).collect(Collectors.toList()), comparator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+
+        private final List<Iterator<T>> iterators;
+        private final PriorityQueue<Head<T>> heads;
+        private boolean initialized;
+
+        private MergingIterator(List<Iterator<T>> iterators, Comparator<? super T> comparator) {
+            this.iterators = iterators;
+            this.heads = new PriorityQueue<>(Math.max(1, iterators.size()), (first, second) -> comparator.compare(first.value, second.value));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!initialized) {
+                iterators.forEach(this::advance);
+                initialized = true;
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head<T> head = heads.poll();
+            advance(head.iterator);
+            return head.value;
+        }
+
+        private void advance(Iterator<T> iterator) {
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+    }
+
+    private static final class Head<T> {
+
+        private final T value;
+        private final Iterator<T> iterator;
+
+        private Head(T value, Iterator<T> iterator) {
+            this.value = value;
+            this.iterator = iterator;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+create sequence developer_sequence start with 1 increment by ${id_block_size};
+create sequence issue_sequence start with 1 increment by ${id_block_size};
+
+create table developer (
+    id integer not null,
+    name varchar(255),
+    primary key (id)
+);
+
+create table issue (
+    type varchar(31) not null,
+    id integer not null,
+    creation_date timestamp,
+    description varchar(255),
+    title varchar(255),
+    status varchar(255),
+    story_point integer,
+    priority varchar(255),
+    developer_id integer,
+    primary key (id)
+);
+
+-- Planner and status filters: equality on type and status, ordered by creation date.
+create index idx_issue_type_status_creation_date on issue (type, status, creation_date, id);
+create index idx_issue_type_priority on issue (type, priority);
+-- Created before the foreign key so that H2 uses it instead of generating its own index.
+create index idx_issue_developer_id on issue (developer_id);
+
+alter table issue add constraint fk_issue_developer foreign key (developer_id) references developer (id);
@@ -0,0 +1,3 @@
+-- Optimistic locking: Hibernate checks and increments the version on every entity update.
+alter table developer add column version integer default 0 not null;
+alter table issue add column version integer default 0 not null;
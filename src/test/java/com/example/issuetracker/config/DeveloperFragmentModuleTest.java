@@ -0,0 +1,97 @@
+package com.example.issuetracker.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.domain.DevelopersChangedEvent;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeveloperFragmentModuleTest {
+
+    private final ObjectMapper plainObjectMapper = new ObjectMapper();
+
+    private DeveloperFragmentModule developerFragmentModule;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        developerFragmentModule = new DeveloperFragmentModule();
+        objectMapper = new ObjectMapper().registerModule(developerFragmentModule);
+    }
+
+    @Test
+    void test__serialize__shouldMatchBeanSerializer() throws Exception {
+        PlanResponse planResponse = new PlanResponse(1, List.of(buildIssueResponse(1, "developer"), buildIssueResponse(2, "developer"),
+            buildIssueResponse(3, null)));
+
+        assertThat(objectMapper.writeValueAsString(planResponse)).isEqualTo(plainObjectMapper.writeValueAsString(planResponse));
+        assertThat(objectMapper.writeValueAsString(planResponse)).isEqualTo(plainObjectMapper.writeValueAsString(planResponse));
+    }
+
+    @Test
+    void test__serialize__whenNameChanged__shouldWriteNewName() throws Exception {
+        objectMapper.writeValueAsString(new DeveloperResponse(1, "developer"));
+
+        assertThat(objectMapper.writeValueAsString(new DeveloperResponse(1, "renamed"))).isEqualTo("{\"id\":1,\"name\":\"renamed\"}");
+    }
+
+    @Test
+    void test__serialize__afterEvict__shouldStillMatchBeanSerializer() throws Exception {
+        DeveloperResponse developerResponse = new DeveloperResponse(1, "developer");
+        objectMapper.writeValueAsString(developerResponse);
+
+        developerFragmentModule.onDevelopersChanged(new DevelopersChangedEvent(List.of(1)));
+        developerFragmentModule.onDevelopersChanged(new DevelopersChangedEvent(List.of(1, 2)));
+
+        assertThat(objectMapper.writeValueAsString(developerResponse)).isEqualTo(plainObjectMapper.writeValueAsString(developerResponse));
+    }
+
+    @Test
+    void test__serialize__withNonAsciiEscaped__shouldUseFactoryOfMapper() throws Exception {
+        ObjectMapper escapingObjectMapper = JsonMapper.builder()
+            .enable(JsonWriteFeature.ESCAPE_NON_ASCII)
+            .addModule(new DeveloperFragmentModule())
+            .build();
+        DeveloperResponse developerResponse = new DeveloperResponse(1, "d\u00e9veloppeur");
+
+        escapingObjectMapper.writeValueAsString(developerResponse);
+
+        assertThat(escapingObjectMapper.writeValueAsString(developerResponse)).isEqualTo("{\"id\":1,\"name\":\"d\\u00E9veloppeur\"}");
+    }
+
+    @Test
+    void test__serialize__withPrettyPrinter__shouldMatchBeanSerializer() throws Exception {
+        PlanResponse planResponse = new PlanResponse(1, List.of(buildIssueResponse(1, "developer")));
+        objectMapper.writeValueAsString(planResponse);
+
+        assertThat(objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(planResponse))
+            .isEqualTo(plainObjectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(planResponse));
+    }
+
+    @Test
+    void test__serialize__withCbor__shouldMatchBeanSerializer() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        cborMapper.registerModule(developerFragmentModule);
+        DeveloperResponse developerResponse = new DeveloperResponse(1, "developer");
+        objectMapper.writeValueAsString(developerResponse);
+
+        assertThat(cborMapper.writeValueAsBytes(developerResponse)).isEqualTo(new CBORMapper().writeValueAsBytes(developerResponse));
+    }
+
+    private IssueResponse buildIssueResponse(Integer id, String developerName) {
+        IssueResponse issueResponse = new IssueResponse();
+        issueResponse.setId(id);
+        issueResponse.setTitle("title " + id);
+        issueResponse.setDeveloper(new DeveloperResponse(1, developerName));
+        return issueResponse;
+    }
+}
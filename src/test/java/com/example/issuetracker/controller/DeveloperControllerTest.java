@@ -1,42 +1,60 @@
 package com.example.issuetracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.issuetracker.controller.request.DeveloperCreateUpdateRequest;
+import com.example.issuetracker.controller.response.BatchItemResponse;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
 import com.example.issuetracker.controller.response.DeveloperListResponse;
 import com.example.issuetracker.controller.response.DeveloperResponse;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
 import com.example.issuetracker.service.DeveloperService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(DeveloperController.class)
 class DeveloperControllerTest {
 
     private static final String CREATE_DEVELOPER = "/developers";
+    private static final String CREATE_DEVELOPERS = "/developers/batch";
     private static final String GET_DEVELOPER = "/developers/{id}";
     private static final String UPDATE_DEVELOPER = "/developers/{id}";
     private static final String DELETE_DEVELOPER = "/developers/{id}";
+    private static final String DELETE_DEVELOPERS = "/developers";
     private static final String GET_ALL_DEVELOPER = "/developers";
 
     private static final Integer ID = 1;
@@ -71,6 +89,58 @@ class DeveloperControllerTest {
         verify(developerService).createDeveloper(any(DeveloperCreateUpdateRequest.class));
     }
 
+    @Test
+    void test__createDeveloper__withCbor__shouldSuccess() throws Exception {
+        when(developerService.createDeveloper(any(DeveloperCreateUpdateRequest.class))).thenReturn(new DeveloperResponse(ID, NAME));
+
+        CBORMapper cborMapper = new CBORMapper();
+        byte[] body = mockMvc.perform(post(CREATE_DEVELOPER)
+                .content(cborMapper.writeValueAsBytes(new DeveloperCreateUpdateRequest(NAME)))
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.path("message").asText()).isEqualTo(ResponseMessageEnum.SUCCESS.getMessage());
+        assertThat(response.path("data").path("id").asInt()).isEqualTo(ID);
+        assertThat(response.path("data").path("name").asText()).isEqualTo(NAME);
+        ArgumentCaptor<DeveloperCreateUpdateRequest> captor = ArgumentCaptor.forClass(DeveloperCreateUpdateRequest.class);
+        verify(developerService).createDeveloper(captor.capture());
+        assertThat(captor.getValue().getName()).isEqualTo(NAME);
+    }
+
+    @Test
+    void test__createDevelopers__shouldSuccess() throws Exception {
+        when(developerService.createDevelopers(anyList())).thenReturn(new BatchResponse<>(1, 0, List.of(
+            new BatchItemResponse<>(0, ResponseMessageEnum.SUCCESS.getMessage(), new DeveloperResponse(ID, NAME)))));
+
+        mockMvc.perform(post(CREATE_DEVELOPERS)
+                .content(objectMapper.writeValueAsString(List.of(new DeveloperCreateUpdateRequest(NAME))))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.succeeded", is(1)),
+                jsonPath("$.data.failed", is(0)),
+                jsonPath("$.data.results[0].data.id", is(ID)),
+                jsonPath("$.data.results[0].data.name", is(NAME)));
+    }
+
+    @Test
+    void test__createDevelopers__withInvalidBatchSize__shouldFail() throws Exception {
+        when(developerService.createDevelopers(anyList())).thenThrow(new BadRequestException(ResponseMessageEnum.INVALID_BATCH_SIZE));
+
+        mockMvc.perform(post(CREATE_DEVELOPERS)
+                .content("[]")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isBadRequest(),
+                jsonPath("$.message", is(ResponseMessageEnum.INVALID_BATCH_SIZE.getMessage())));
+    }
+
     @Test
     void test__getDeveloper__shouldSuccess() throws Exception {
         DeveloperResponse response = new DeveloperResponse(ID, NAME);
@@ -86,10 +156,22 @@ class DeveloperControllerTest {
         verify(developerService).getDeveloper(ID);
     }
 
+    @Test
+    void test__getDeveloper__withMatchingETag__shouldNotModified() throws Exception {
+        when(developerService.getDeveloperETag(ID)).thenReturn("\"1\"");
+
+        mockMvc.perform(get(GET_DEVELOPER, ID).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, "\"1\""));
+
+        verify(developerService, never()).getDeveloper(anyInt());
+    }
+
     @Test
     void test__updateDeveloper__shouldSuccess() throws Exception {
         DeveloperResponse response = new DeveloperResponse(ID, NAME);
-        when(developerService.updateDeveloper(anyInt(), any(DeveloperCreateUpdateRequest.class))).thenReturn(response);
+        when(developerService.updateDeveloper(anyInt(), isNull(), any(DeveloperCreateUpdateRequest.class))).thenReturn(response);
 
         DeveloperCreateUpdateRequest request = new DeveloperCreateUpdateRequest();
         request.setName(NAME);
@@ -103,7 +185,43 @@ class DeveloperControllerTest {
                 jsonPath("$.data.id", is(ID)),
                 jsonPath("$.data.name", is(NAME)));
 
-        verify(developerService).updateDeveloper(eq(ID), any(DeveloperCreateUpdateRequest.class));
+        verify(developerService).updateDeveloper(eq(ID), isNull(), any(DeveloperCreateUpdateRequest.class));
+    }
+
+    @Test
+    void test__updateDeveloper__withIfMatch__shouldReturnETag() throws Exception {
+        DeveloperResponse response = new DeveloperResponse(ID, NAME);
+        response.setVersion(1);
+        when(developerService.updateDeveloper(eq(ID), eq(0), any(DeveloperCreateUpdateRequest.class))).thenReturn(response);
+
+        DeveloperCreateUpdateRequest request = new DeveloperCreateUpdateRequest();
+        request.setName(NAME);
+
+        mockMvc.perform(put(UPDATE_DEVELOPER, ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"1\""),
+                jsonPath("$.data.id", is(ID)));
+    }
+
+    @Test
+    void test__updateDeveloper__whenConcurrentlyModified__shouldPreconditionFailed() throws Exception {
+        when(developerService.updateDeveloper(eq(ID), eq(0), any(DeveloperCreateUpdateRequest.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(DeveloperEntity.class, ID));
+
+        DeveloperCreateUpdateRequest request = new DeveloperCreateUpdateRequest();
+        request.setName(NAME);
+
+        mockMvc.perform(put(UPDATE_DEVELOPER, ID)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isPreconditionFailed(),
+                jsonPath("$.message", is(ResponseMessageEnum.VERSION_CHANGED.getMessage())));
     }
 
     @Test
@@ -117,20 +235,68 @@ class DeveloperControllerTest {
         verify(developerService).deleteDeveloper(ID);
     }
 
+    @Test
+    void test__deleteDevelopers__shouldSuccess() throws Exception {
+        when(developerService.deleteDevelopers(anyList())).thenReturn(new BulkUpdateResponse(2));
+
+        mockMvc.perform(delete(DELETE_DEVELOPERS).param("ids", "1,2,3"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.affected", is(2)));
+
+        verify(developerService).deleteDevelopers(List.of(1, 2, 3));
+    }
+
+    @Test
+    void test__getDevelopersByIds__shouldSuccess() throws Exception {
+        when(developerService.getDevelopersByIds(anyList())).thenReturn(new BatchResponse<>(1, 1, List.of(
+            new BatchItemResponse<>(0, ResponseMessageEnum.SUCCESS.getMessage(), new DeveloperResponse(ID, NAME)),
+            new BatchItemResponse<>(1, ResponseMessageEnum.DEVELOPER_NOT_FOUND.getMessage(), null))));
+
+        mockMvc.perform(get(GET_ALL_DEVELOPER).param("ids", "1,2"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.data.succeeded", is(1)),
+                jsonPath("$.data.failed", is(1)),
+                jsonPath("$.data.results[0].data.id", is(ID)),
+                jsonPath("$.data.results[1].message", is(ResponseMessageEnum.DEVELOPER_NOT_FOUND.getMessage())),
+                jsonPath("$.data.results[1].data", nullValue()));
+
+        verify(developerService).getDevelopersByIds(List.of(1, 2));
+    }
+
     @Test
     void test__getAllDeveloper__shouldSuccess() throws Exception {
         DeveloperListResponse response = new DeveloperListResponse();
         response.setDevelopers(Collections.emptyList());
-        when(developerService.getAllDeveloper()).thenReturn(response);
+        when(developerService.getAllDeveloper(null, null)).thenReturn(response);
 
         mockMvc.perform(get(GET_ALL_DEVELOPER)
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpectAll(
                 status().isOk(),
                 jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
-                jsonPath("$.data.developers", empty()));
+                jsonPath("$.data.developers", empty()),
+                jsonPath("$.data.next_cursor", nullValue()));
+
+        verify(developerService).getAllDeveloper(null, null);
+    }
+
+    @Test
+    void test__getAllDeveloper__withCursor__shouldSuccess() throws Exception {
+        when(developerService.getAllDeveloper("aWQ6MQ", 1)).thenReturn(new DeveloperListResponse(
+            List.of(new DeveloperResponse(ID, "name")), "aWQ6Mg"));
+
+        mockMvc.perform(get(GET_ALL_DEVELOPER)
+                .param("cursor", "aWQ6MQ")
+                .param("limit", "1"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.data.developers[0].id", is(ID)),
+                jsonPath("$.data.next_cursor", is("aWQ6Mg")));
 
-        verify(developerService).getAllDeveloper();
+        verify(developerService).getAllDeveloper("aWQ6MQ", 1);
     }
 
     @Test
@@ -1,54 +1,93 @@
 package com.example.issuetracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.issuetracker.config.WebConfiguration;
 import com.example.issuetracker.controller.request.AssigneeRequest;
 import com.example.issuetracker.controller.request.BugCreateRequest;
+import com.example.issuetracker.controller.request.BugPatchRequest;
 import com.example.issuetracker.controller.request.BugUpdateRequest;
+import com.example.issuetracker.controller.request.IssueBulkUpdateRequest;
+import com.example.issuetracker.controller.request.IssueChangeRequest;
+import com.example.issuetracker.controller.request.IssueFilterRequest;
 import com.example.issuetracker.controller.request.StoryCreateRequest;
+import com.example.issuetracker.controller.request.StoryPatchRequest;
 import com.example.issuetracker.controller.request.StoryUpdateRequest;
+import com.example.issuetracker.controller.response.BatchItemResponse;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BugListResponse;
 import com.example.issuetracker.controller.response.BugResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
+import com.example.issuetracker.controller.response.StoryListResponse;
 import com.example.issuetracker.controller.response.StoryResponse;
 import com.example.issuetracker.domain.BugStatus;
 import com.example.issuetracker.domain.Priority;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.exception.ConflictException;
+import com.example.issuetracker.exception.PreconditionFailedException;
+import com.example.issuetracker.service.IssueExportService;
 import com.example.issuetracker.service.IssueService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(IssueController.class)
 class IssueControllerTest {
 
     private static final String CREATE_STORY = "/stories";
+    private static final String CREATE_STORIES = "/stories/batch";
+    private static final String GET_STORIES = "/stories";
     private static final String GET_STORY = "/stories/{id}";
     private static final String UPDATE_STORY = "/stories/{id}";
     private static final String DELETE_STORY = "/stories/{id}";
+    private static final String DELETE_STORIES = "/stories";
     private static final String ASSIGN_STORY_DEVELOPER = "/stories/{id}/developers";
     private static final String CREATE_BUG = "/bugs";
+    private static final String GET_BUGS = "/bugs";
     private static final String GET_BUG = "/bugs/{id}";
     private static final String UPDATE_BUG = "/bugs/{id}";
     private static final String DELETE_BUG = "/bugs/{id}";
+    private static final String DELETE_BUGS = "/bugs";
     private static final String ASSIGN_BUG_DEVELOPER = "/bugs/{id}/developers";
+    private static final String UPDATE_ISSUES = "/issues";
+    private static final String EXPORT_ISSUES = "/issues/export";
 
     private static final Integer ID = 1;
 
@@ -61,6 +100,9 @@ class IssueControllerTest {
     @MockBean
     private IssueService issueService;
 
+    @MockBean
+    private IssueExportService issueExportService;
+
     @Test
     void test__createStory__shouldSuccess() throws Exception {
         StoryResponse storyResponse = buildStoryResponse();
@@ -83,6 +125,64 @@ class IssueControllerTest {
         verify(issueService).createStory(any(StoryCreateRequest.class));
     }
 
+    @Test
+    void test__createStories__shouldSuccess() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        when(issueService.createStories(anyList())).thenReturn(new BatchResponse<>(1, 1, List.of(
+            new BatchItemResponse<>(0, ResponseMessageEnum.SUCCESS.getMessage(), storyResponse),
+            new BatchItemResponse<>(1, ResponseMessageEnum.INVALID_STORY_POINT.getMessage(), null))));
+
+        mockMvc.perform(post(CREATE_STORIES)
+                .content(objectMapper.writeValueAsString(List.of(buildStoryCreateRequest(), new StoryCreateRequest())))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.succeeded", is(1)),
+                jsonPath("$.data.failed", is(1)),
+                jsonPath("$.data.results[0].index", is(0)),
+                jsonPath("$.data.results[0].data.id", is(storyResponse.getId())),
+                jsonPath("$.data.results[1].message", is(ResponseMessageEnum.INVALID_STORY_POINT.getMessage())),
+                jsonPath("$.data.results[1].data", nullValue()));
+
+        verify(issueService).createStories(anyList());
+    }
+
+    @Test
+    void test__getStories__shouldSuccess() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        when(issueService.getStories("aWQ6MQ", 1)).thenReturn(new StoryListResponse(List.of(storyResponse), "aWQ6Mg"));
+
+        mockMvc.perform(get(GET_STORIES)
+                .param("cursor", "aWQ6MQ")
+                .param("limit", "1"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.stories[0].id", is(storyResponse.getId())),
+                jsonPath("$.data.next_cursor", is("aWQ6Mg")));
+
+        verify(issueService).getStories("aWQ6MQ", 1);
+    }
+
+    @Test
+    void test__getStoriesByIds__shouldSuccess() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        when(issueService.getStoriesByIds(anyList())).thenReturn(new BatchResponse<>(1, 1, List.of(
+            new BatchItemResponse<>(0, ResponseMessageEnum.SUCCESS.getMessage(), storyResponse),
+            new BatchItemResponse<>(1, ResponseMessageEnum.STORY_NOT_FOUND.getMessage(), null))));
+
+        mockMvc.perform(get(GET_STORIES).param("ids", "1,2"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.data.succeeded", is(1)),
+                jsonPath("$.data.results[0].data.id", is(storyResponse.getId())),
+                jsonPath("$.data.results[1].message", is(ResponseMessageEnum.STORY_NOT_FOUND.getMessage())));
+
+        verify(issueService).getStoriesByIds(List.of(1, 2));
+        verify(issueService, never()).getStories(any(), any());
+    }
+
     @Test
     void test__getStory__shouldSuccess() throws Exception {
         StoryResponse storyResponse = buildStoryResponse();
@@ -101,12 +201,70 @@ class IssueControllerTest {
                 jsonPath("$.data.developer", nullValue()));
 
         verify(issueService).getStory(ID);
+        verify(issueService, never()).getStoryETag(anyInt());
+    }
+
+    @Test
+    void test__getStory__withMatchingETag__shouldNotModified() throws Exception {
+        when(issueService.getStoryETag(ID)).thenReturn("\"2\"");
+
+        mockMvc.perform(get(GET_STORY, ID).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, "\"2\""),
+                content().string(""));
+
+        verify(issueService, never()).getStory(anyInt());
+    }
+
+    @Test
+    void test__getStory__withStaleETag__shouldSuccess() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        storyResponse.setVersion(3);
+        when(issueService.getStoryETag(ID)).thenReturn("\"3\"");
+        when(issueService.getStory(ID)).thenReturn(storyResponse);
+
+        mockMvc.perform(get(GET_STORY, ID).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+            .andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"3\""),
+                jsonPath("$.data.id", is(storyResponse.getId())));
+    }
+
+    @Test
+    void test__getStory__whenChangedAfterETagLookup__shouldSendVersionOfBody() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        storyResponse.setVersion(3);
+        when(issueService.getStoryETag(ID)).thenReturn("\"2\"");
+        when(issueService.getStory(ID)).thenReturn(storyResponse);
+
+        mockMvc.perform(get(GET_STORY, ID).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+            .andExpectAll(
+                status().isOk(),
+                header().stringValues(HttpHeaders.ETAG, "\"3\""),
+                jsonPath("$.data.id", is(storyResponse.getId())));
+    }
+
+    @Test
+    void test__getStory__withSmileAccept__shouldMatchJson() throws Exception {
+        when(issueService.getStory(ID)).thenReturn(buildStoryResponse());
+
+        byte[] json = mockMvc.perform(get(GET_STORY, ID))
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get(GET_STORY, ID).accept(WebConfiguration.APPLICATION_SMILE_VALUE))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(WebConfiguration.APPLICATION_SMILE_VALUE))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new SmileMapper().readTree(smile)).isEqualTo(objectMapper.readTree(json));
+        assertThat(smile.length).isLessThan(json.length);
     }
 
     @Test
     void test__updateStory__shouldSuccess() throws Exception {
         StoryResponse storyResponse = buildStoryResponse();
-        when(issueService.updateStory(anyInt(), any(StoryUpdateRequest.class))).thenReturn(storyResponse);
+        when(issueService.updateStory(anyInt(), isNull(), any(StoryUpdateRequest.class))).thenReturn(storyResponse);
 
         mockMvc.perform(put(UPDATE_STORY, ID)
                 .content(objectMapper.writeValueAsString(buildStoryUpdateRequest()))
@@ -122,7 +280,77 @@ class IssueControllerTest {
                 jsonPath("$.data.status", is(storyResponse.getStatus())),
                 jsonPath("$.data.developer", nullValue()));
 
-        verify(issueService).updateStory(eq(ID), any(StoryUpdateRequest.class));
+        verify(issueService).updateStory(eq(ID), isNull(), any(StoryUpdateRequest.class));
+    }
+
+    @Test
+    void test__updateStory__withIfMatch__shouldReturnETag() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        storyResponse.setVersion(3);
+        when(issueService.updateStory(eq(ID), eq(2), any(StoryUpdateRequest.class))).thenReturn(storyResponse);
+
+        mockMvc.perform(put(UPDATE_STORY, ID)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .content(objectMapper.writeValueAsString(buildStoryUpdateRequest()))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"3\""),
+                jsonPath("$.data.id", is(storyResponse.getId())),
+                jsonPath("$.data.version").doesNotExist());
+    }
+
+    @Test
+    void test__updateStory__whenVersionChanged__shouldPreconditionFailed() throws Exception {
+        when(issueService.updateStory(eq(ID), eq(2), any(StoryUpdateRequest.class)))
+            .thenThrow(new PreconditionFailedException(ResponseMessageEnum.VERSION_CHANGED));
+
+        mockMvc.perform(put(UPDATE_STORY, ID)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .content(objectMapper.writeValueAsString(buildStoryUpdateRequest()))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isPreconditionFailed(),
+                jsonPath("$.message", is(ResponseMessageEnum.VERSION_CHANGED.getMessage())),
+                jsonPath("$.data", nullValue()));
+    }
+
+    @Test
+    void test__updateBug__withMalformedIfMatch__shouldPreconditionFailed() throws Exception {
+        mockMvc.perform(put(UPDATE_BUG, ID)
+                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                .content(objectMapper.writeValueAsString(buildBugUpdateRequest()))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isPreconditionFailed(),
+                jsonPath("$.message", is(ResponseMessageEnum.VERSION_CHANGED.getMessage())));
+
+        verify(issueService, never()).updateBug(anyInt(), any(), any(BugUpdateRequest.class));
+    }
+
+    @Test
+    void test__patchStory__shouldSuccess() throws Exception {
+        StoryResponse storyResponse = buildStoryResponse();
+        storyResponse.setVersion(4);
+        when(issueService.patchStory(eq(ID), eq(3), any(StoryPatchRequest.class))).thenReturn(storyResponse);
+
+        mockMvc.perform(patch(UPDATE_STORY, ID)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .content("{\"status\": \"Estimated\", \"description\": null}")
+                .contentType(IssueController.APPLICATION_MERGE_PATCH_JSON_VALUE))
+            .andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"4\""),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.id", is(storyResponse.getId())));
+
+        ArgumentCaptor<StoryPatchRequest> argumentCaptor = ArgumentCaptor.forClass(StoryPatchRequest.class);
+        verify(issueService).patchStory(eq(ID), eq(3), argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().isStatusPresent()).isTrue();
+        assertThat(argumentCaptor.getValue().isDescriptionPresent()).isTrue();
+        assertThat(argumentCaptor.getValue().getDescription()).isNull();
+        assertThat(argumentCaptor.getValue().isTitlePresent()).isFalse();
+        assertThat(argumentCaptor.getValue().isStoryPointPresent()).isFalse();
     }
 
     @Test
@@ -136,6 +364,19 @@ class IssueControllerTest {
         verify(issueService).deleteStory(ID);
     }
 
+    @Test
+    void test__deleteStories__shouldSuccess() throws Exception {
+        when(issueService.deleteStories(anyList())).thenReturn(new BulkUpdateResponse(2));
+
+        mockMvc.perform(delete(DELETE_STORIES).param("ids", "1,2,3"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.affected", is(2)));
+
+        verify(issueService).deleteStories(List.of(1, 2, 3));
+    }
+
     @Test
     void test__assignStoryDeveloper__shouldSuccess() throws Exception {
         mockMvc.perform(post(ASSIGN_STORY_DEVELOPER, ID)
@@ -149,6 +390,60 @@ class IssueControllerTest {
         verify(issueService).assignStoryDeveloper(eq(ID), any(AssigneeRequest.class));
     }
 
+    @Test
+    void test__assignStoryDeveloper__whenAssigneeChanged__shouldReturnConflict() throws Exception {
+        doThrow(new ConflictException(ResponseMessageEnum.ASSIGNEE_CHANGED))
+            .when(issueService).assignStoryDeveloper(eq(ID), any(AssigneeRequest.class));
+
+        mockMvc.perform(post(ASSIGN_STORY_DEVELOPER, ID)
+                .content("{\"id\": 1, \"expected_id\": null}")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isConflict(),
+                jsonPath("$.message", is(ResponseMessageEnum.ASSIGNEE_CHANGED.getMessage())),
+                jsonPath("$.data", nullValue()));
+
+        ArgumentCaptor<AssigneeRequest> argumentCaptor = ArgumentCaptor.forClass(AssigneeRequest.class);
+        verify(issueService).assignStoryDeveloper(eq(ID), argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().isExpectedIdPresent()).isTrue();
+        assertThat(argumentCaptor.getValue().getExpectedId()).isNull();
+    }
+
+    @Test
+    void test__exportIssues__shouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0, OutputStream.class);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(issueExportService).writeIssues(any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_ISSUES).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_NDJSON),
+                content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void test__updateIssues__shouldSuccess() throws Exception {
+        when(issueService.updateIssues(any(IssueBulkUpdateRequest.class))).thenReturn(new BulkUpdateResponse(3));
+
+        mockMvc.perform(patch(UPDATE_ISSUES)
+                .content(objectMapper.writeValueAsString(new IssueBulkUpdateRequest(
+                    new IssueFilterRequest(null, "story", "new", null), new IssueChangeRequest("estimated", null))))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.affected", is(3)));
+
+        verify(issueService).updateIssues(any(IssueBulkUpdateRequest.class));
+    }
+
     @Test
     void test__createBug__shouldSuccess() throws Exception {
         BugResponse bugResponse = buildBugResponse();
@@ -171,6 +466,23 @@ class IssueControllerTest {
         verify(issueService).createBug(any(BugCreateRequest.class));
     }
 
+    @Test
+    void test__getBugs__shouldSuccess() throws Exception {
+        BugResponse bugResponse = buildBugResponse();
+        when(issueService.getBugs("aWQ6MQ", 1)).thenReturn(new BugListResponse(List.of(bugResponse), "aWQ6Mg"));
+
+        mockMvc.perform(get(GET_BUGS)
+                .param("cursor", "aWQ6MQ")
+                .param("limit", "1"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.bugs[0].id", is(bugResponse.getId())),
+                jsonPath("$.data.next_cursor", is("aWQ6Mg")));
+
+        verify(issueService).getBugs("aWQ6MQ", 1);
+    }
+
     @Test
     void test__getBug__shouldSuccess() throws Exception {
         BugResponse bugResponse = buildBugResponse();
@@ -191,10 +503,20 @@ class IssueControllerTest {
         verify(issueService).getBug(ID);
     }
 
+    @Test
+    void test__getBug__withMatchingETag__shouldNotModified() throws Exception {
+        when(issueService.getBugETag(ID)).thenReturn("\"0\"");
+
+        mockMvc.perform(get(GET_BUG, ID).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+
+        verify(issueService, never()).getBug(anyInt());
+    }
+
     @Test
     void test__updateBug__shouldSuccess() throws Exception {
         BugResponse bugResponse = buildBugResponse();
-        when(issueService.updateBug(anyInt(), any(BugUpdateRequest.class))).thenReturn(bugResponse);
+        when(issueService.updateBug(anyInt(), isNull(), any(BugUpdateRequest.class))).thenReturn(bugResponse);
 
         mockMvc.perform(put(UPDATE_BUG, ID)
                 .content(objectMapper.writeValueAsString(buildBugUpdateRequest()))
@@ -210,7 +532,26 @@ class IssueControllerTest {
                 jsonPath("$.data.status", is(bugResponse.getStatus())),
                 jsonPath("$.data.developer", nullValue()));
 
-        verify(issueService).updateBug(eq(ID), any(BugUpdateRequest.class));
+        verify(issueService).updateBug(eq(ID), isNull(), any(BugUpdateRequest.class));
+    }
+
+    @Test
+    void test__patchBug__shouldSuccess() throws Exception {
+        BugResponse bugResponse = buildBugResponse();
+        when(issueService.patchBug(eq(ID), isNull(), any(BugPatchRequest.class))).thenReturn(bugResponse);
+
+        mockMvc.perform(patch(UPDATE_BUG, ID)
+                .content("{\"priority\": \"Major\"}")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.id", is(bugResponse.getId())));
+
+        ArgumentCaptor<BugPatchRequest> argumentCaptor = ArgumentCaptor.forClass(BugPatchRequest.class);
+        verify(issueService).patchBug(eq(ID), isNull(), argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().isPriorityPresent()).isTrue();
+        assertThat(argumentCaptor.getValue().isStatusPresent()).isFalse();
     }
 
     @Test
@@ -224,6 +565,19 @@ class IssueControllerTest {
         verify(issueService).deleteBug(ID);
     }
 
+    @Test
+    void test__deleteBugs__shouldSuccess() throws Exception {
+        when(issueService.deleteBugs(anyList())).thenReturn(new BulkUpdateResponse(2));
+
+        mockMvc.perform(delete(DELETE_BUGS).param("ids", "1,2,3"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.affected", is(2)));
+
+        verify(issueService).deleteBugs(List.of(1, 2, 3));
+    }
+
     @Test
     void test__assignBugDeveloper__shouldSuccess() throws Exception {
         mockMvc.perform(post(ASSIGN_BUG_DEVELOPER, ID)
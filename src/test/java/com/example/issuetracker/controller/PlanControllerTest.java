@@ -1,41 +1,287 @@
 package com.example.issuetracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.issuetracker.config.WebConfiguration;
+import com.example.issuetracker.controller.request.PlanSimulationRequest;
+import com.example.issuetracker.controller.response.DeveloperPlanListResponse;
+import com.example.issuetracker.controller.response.DeveloperPlanResponse;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.ForecastListResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
 import com.example.issuetracker.controller.response.PlanListResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.controller.response.PlanSimulationResponse;
+import com.example.issuetracker.controller.response.PlanWindowResponse;
+import com.example.issuetracker.controller.response.StoryForecastResponse;
+import com.example.issuetracker.domain.PlanSnapshot;
+import com.example.issuetracker.domain.Response;
 import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.service.DeveloperPlanService;
+import com.example.issuetracker.service.ForecastService;
 import com.example.issuetracker.service.PlanService;
+import com.example.issuetracker.service.PlanSimulationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(PlanController.class)
 class PlanControllerTest {
 
     private static final String GET_PLAN = "/plan";
+    private static final String GET_DEVELOPER_PLAN = "/plan/developers";
+    private static final String GET_FORECAST = "/plan/forecast";
+    private static final String SIMULATE_PLAN = "/plan/simulate";
+    private static final String PLAN_ETAG = "\"epoch-1\"";
 
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @MockBean
     private PlanService planService;
+    @MockBean
+    private DeveloperPlanService developerPlanService;
+    @MockBean
+    private ForecastService forecastService;
+    @MockBean
+    private PlanSimulationService planSimulationService;
 
     @Test
     void test__getPlan__shouldSuccess() throws Exception {
         PlanListResponse planListResponse = new PlanListResponse();
-        when(planService.getPlan()).thenReturn(planListResponse);
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(planListResponse));
 
         mockMvc.perform(get(GET_PLAN))
             .andExpectAll(
                 status().isOk(),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG),
                 jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
                 jsonPath("$.data.plans", nullValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void test__getPlan__withMatchingETag__shouldNotModified() throws Exception {
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(new PlanListResponse()));
+
+        mockMvc.perform(get(GET_PLAN).header(HttpHeaders.IF_NONE_MATCH, PLAN_ETAG))
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG),
+                content().bytes(new byte[0]));
+
+        verify(planService, never()).getPlanETag();
+    }
+
+    @Test
+    void test__getPlan__withStaleETag__shouldSuccess() throws Exception {
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(new PlanListResponse()));
+
+        mockMvc.perform(get(GET_PLAN).header(HttpHeaders.IF_NONE_MATCH, "\"epoch-0\""))
+            .andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())));
+    }
+
+    @Test
+    void test__getPlan__withWildcardAccept__shouldSendJson() throws Exception {
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(new PlanListResponse()));
+
+        mockMvc.perform(get(GET_PLAN).accept(MediaType.ALL))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_JSON),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())));
+
+        verify(planService, never()).writePlan(any(OutputStream.class));
+    }
+
+    @Test
+    void test__getPlan__withCborAccept__shouldMatchJson() throws Exception {
+        IssueResponse issueResponse = new IssueResponse(1, "STORY", "title", null, 3, LocalDateTime.of(2022, 3, 1, 10, 15, 30), "NEW",
+            null, new DeveloperResponse(1, "developer"));
+        PlanListResponse planListResponse = new PlanListResponse(List.of(new PlanResponse(1, List.of(issueResponse))));
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(planListResponse));
+
+        byte[] body = mockMvc.perform(get(GET_PLAN).accept(MediaType.APPLICATION_CBOR))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_CBOR),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = new CBORMapper().readTree(body);
+        assertThat(response).isEqualTo(objectMapper.readTree(buildPlanSnapshot(planListResponse).getBody()));
+        assertThat(response.path("data").path("plans").path(0).path("issues").path(0).path("creation_date").isTextual()).isTrue();
+    }
+
+    @Test
+    void test__getPlan__withCborPreferredOverJson__shouldSendCbor() throws Exception {
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(new PlanListResponse()));
+
+        mockMvc.perform(get(GET_PLAN).header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void test__getPlan__withSmileAcceptAndMatchingETag__shouldNotModified() throws Exception {
+        when(planService.getPlanSnapshot()).thenReturn(buildPlanSnapshot(new PlanListResponse()));
+
+        mockMvc.perform(get(GET_PLAN).accept(WebConfiguration.APPLICATION_SMILE_VALUE).header(HttpHeaders.IF_NONE_MATCH, PLAN_ETAG))
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, PLAN_ETAG),
+                content().bytes(new byte[0]));
+    }
+
+    @Test
+    void test__streamPlan__shouldSuccess() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0, OutputStream.class);
+            outputStream.write("{\"week\":1,\"issues\":[]}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(planService).writePlan(any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(GET_PLAN).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_NDJSON),
+                content().string("{\"week\":1,\"issues\":[]}\n"));
+
+        verify(planService, never()).getPlanSnapshot();
+    }
+
+    @Test
+    void test__getDeveloperPlan__shouldSuccess() throws Exception {
+        DeveloperPlanResponse developerPlanResponse = new DeveloperPlanResponse(new DeveloperResponse(1, "developer"), 3L,
+            List.of(new PlanResponse(1, List.of())));
+        when(developerPlanService.getDeveloperPlan()).thenReturn(new DeveloperPlanListResponse(1, List.of(developerPlanResponse)));
+
+        mockMvc.perform(get(GET_DEVELOPER_PLAN))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.weeks", is(1)),
+                jsonPath("$.data.developer_plans[0].developer.id", is(1)),
+                jsonPath("$.data.developer_plans[0].story_points", is(3)),
+                jsonPath("$.data.developer_plans[0].plans[0].week", is(1)));
+    }
+
+    @Test
+    void test__getPlanWindow__shouldSuccess() throws Exception {
+        when(planService.getPlanWindow(2, 3)).thenReturn(new PlanWindowResponse(2, 3, 8,
+            List.of(new PlanResponse(2, List.of()), new PlanResponse(3, List.of()))));
+
+        mockMvc.perform(get(GET_PLAN).param("fromWeek", "2").param("toWeek", "3"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.from_week", is(2)),
+                jsonPath("$.data.to_week", is(3)),
+                jsonPath("$.data.total_weeks", is(8)),
+                jsonPath("$.data.plans[1].week", is(3)));
+
+        verify(planService, never()).getPlanSnapshot();
+    }
+
+    @Test
+    void test__getPlanWindow__withoutFromWeek__shouldStartAtFirstWeek() throws Exception {
+        when(planService.getPlanWindow(1, 2)).thenReturn(new PlanWindowResponse(1, 2, 2, List.of()));
+
+        mockMvc.perform(get(GET_PLAN).param("toWeek", "2"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.data.from_week", is(1)));
+    }
+
+    @Test
+    void test__getForecast__shouldSuccess() throws Exception {
+        when(forecastService.getForecast(500, 7L))
+            .thenReturn(new ForecastListResponse(500, 7L, List.of(new StoryForecastResponse(1, 2, 3, 4))));
+
+        mockMvc.perform(get(GET_FORECAST).param("simulations", "500").param("seed", "7"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.simulations", is(500)),
+                jsonPath("$.data.seed", is(7)),
+                jsonPath("$.data.forecasts[0].id", is(1)),
+                jsonPath("$.data.forecasts[0].p50", is(2)),
+                jsonPath("$.data.forecasts[0].p85", is(3)),
+                jsonPath("$.data.forecasts[0].p95", is(4)));
+    }
+
+    @Test
+    void test__getForecast__withInvalidSimulations__shouldFail() throws Exception {
+        when(forecastService.getForecast(0, null)).thenThrow(new BadRequestException(ResponseMessageEnum.INVALID_SIMULATIONS));
+
+        mockMvc.perform(get(GET_FORECAST).param("simulations", "0"))
+            .andExpectAll(
+                status().isBadRequest(),
+                jsonPath("$.message", is(ResponseMessageEnum.INVALID_SIMULATIONS.getMessage())));
+    }
+
+    @Test
+    void test__simulatePlan__shouldSuccess() throws Exception {
+        when(planSimulationService.simulatePlan(any())).thenReturn(new PlanSimulationResponse(4L, 3, 1, List.of(new PlanResponse(1, List.of()))));
+
+        mockMvc.perform(post(SIMULATE_PLAN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"developer_change\":2,\"removed_stories\":[1],\"stories\":[{\"id\":2,\"story_point\":5}]}"))
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.message", is(ResponseMessageEnum.SUCCESS.getMessage())),
+                jsonPath("$.data.backlog_version", is(4)),
+                jsonPath("$.data.developers", is(3)),
+                jsonPath("$.data.weeks", is(1)));
+
+        ArgumentCaptor<PlanSimulationRequest> captor = ArgumentCaptor.forClass(PlanSimulationRequest.class);
+        verify(planSimulationService).simulatePlan(captor.capture());
+        assertThat(captor.getValue().getDeveloperChange()).isEqualTo(2);
+        assertThat(captor.getValue().getRemovedStories()).containsExactly(1);
+        assertThat(captor.getValue().getStories().get(0).getStoryPoint()).isEqualTo(5);
+    }
+
+    private PlanSnapshot buildPlanSnapshot(PlanListResponse planListResponse) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(new Response<>(ResponseMessageEnum.SUCCESS.getMessage(), planListResponse));
+        return new PlanSnapshot(1, PLAN_ETAG, planListResponse, body);
+    }
+}
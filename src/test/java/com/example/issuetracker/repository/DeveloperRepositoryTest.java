@@ -0,0 +1,102 @@
+package com.example.issuetracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import java.lang.management.ManagementFactory;
+import javax.cache.CacheManager;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Second-level cache entries are only written when a transaction commits, so the developers are saved and read outside of a test
+ * transaction and deleted afterwards.
+ */
+@DataJpaTest
+@Import(ApplicationConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeveloperRepositoryTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager hibernateCacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        hibernateCacheManager.getCacheNames().forEach(cacheName -> hibernateCacheManager.getCache(cacheName).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        developerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void test__findById__shouldReadFromSecondLevelCache() throws JMException {
+        Integer id = saveDeveloper().getId();
+        long hits = getCacheStatistic(DeveloperEntity.CACHE_REGION, "CacheHits");
+
+        assertThat(developerRepository.findById(id)).isPresent();
+        assertThat(developerRepository.findById(id)).isPresent();
+
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache().containsEntity(DeveloperEntity.class, id)).isTrue();
+        assertThat(getCacheStatistic(DeveloperEntity.CACHE_REGION, "CacheHits")).isEqualTo(hits + 2);
+    }
+
+    @Test
+    void test__count__shouldReadFromQueryCacheUntilDevelopersChange() throws JMException {
+        saveDeveloper();
+        long hits = getCacheStatistic(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, "CacheHits");
+
+        assertThat(developerRepository.count()).isEqualTo(1);
+        assertThat(developerRepository.count()).isEqualTo(1);
+        assertThat(getCacheStatistic(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, "CacheHits")).isEqualTo(hits + 1);
+
+        saveDeveloper();
+
+        assertThat(developerRepository.count()).isEqualTo(2);
+        assertThat(developerRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    void test__deleteDeveloperById__shouldEvictCachedDeveloper() {
+        Integer id = saveDeveloper().getId();
+        assertThat(developerRepository.findById(id)).isPresent();
+
+        transactionTemplate.executeWithoutResult(status -> developerRepository.deleteDeveloperById(id));
+
+        assertThat(developerRepository.findById(id)).isEmpty();
+        assertThat(developerRepository.count()).isZero();
+    }
+
+    private DeveloperEntity saveDeveloper() {
+        DeveloperEntity developerEntity = new DeveloperEntity();
+        developerEntity.setName("developer");
+        return developerRepository.save(developerEntity);
+    }
+
+    private long getCacheStatistic(String cacheName, String attribute) throws JMException {
+        ObjectName objectName = new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+            + hibernateCacheManager.getURI() + ",Cache=" + cacheName);
+        return (long) ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, attribute);
+    }
+}
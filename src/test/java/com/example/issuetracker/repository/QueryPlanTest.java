@@ -0,0 +1,181 @@
+package com.example.issuetracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs H2 {@code EXPLAIN} on the SQL Hibernate generates for every {@code @Query} of the repositories, with literal parameters, and
+ * fails if a query stops using its index. A new {@code @Query} has to be added to {@link #repositoryQueries()}; derived and dynamic
+ * queries are covered by their JPQL equivalent in {@link #jpqlQueries()}. H2 only costs plans
+ * from committed row counts, so the tables are seeded and analyzed outside of a test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(StoryRepository.class, BugRepository.class, DeveloperRepository.class,
+        IssueRepository.class);
+    private static final String TYPE_STATUS_INDEX = "IDX_ISSUE_TYPE_STATUS_CREATION_DATE";
+    private static final String DEVELOPER_INDEX = "IDX_ISSUE_DEVELOPER_ID";
+    private static final String PRIMARY_KEY = "PRIMARY_KEY_\\w+: ID";
+    private static final String DIRECT_LOOKUP = "/\\* direct lookup \\*/";
+    private static final String INDEX_SORTED = "/\\* index sorted \\*/";
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into developer (id, name) select x, 'developer' from system_range(1, 100)");
+        jdbcTemplate.update("insert into issue (type, id, status, story_point, priority, creation_date, developer_id) "
+            + "select case when mod(x, 2) = 0 then 'STORY' else 'BUG' end, x, case mod(x, 3) when 0 then 'NEW' else 'COMPLETED' end, 3, "
+            + "case when mod(x, 2) = 0 then null else 'MINOR' end, current_timestamp, mod(x, 100) + 1 from system_range(1, 10000)");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from issue");
+        jdbcTemplate.update("delete from developer");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+            arguments(StoryRepository.class, "findPlanStoriesByStatus", List.of("'NEW'"), TYPE_STATUS_INDEX),
+            arguments(StoryRepository.class, "streamPlanStoriesByStatus", List.of("'NEW'"), TYPE_STATUS_INDEX),
+            arguments(StoryRepository.class, "sumStoryPointsByStatusIn", List.of("'NEW', 'ESTIMATED'"), TYPE_STATUS_INDEX),
+            arguments(StoryRepository.class, "findVersionById", List.of("1"), PRIMARY_KEY),
+            arguments(StoryRepository.class, "deleteStoryById", List.of("1"), PRIMARY_KEY),
+            arguments(StoryRepository.class, "deleteStoriesByIdIn", List.of("1, 2"), PRIMARY_KEY),
+            arguments(StoryRepository.class, "assignDeveloper", List.of("1", "1"), PRIMARY_KEY),
+            arguments(StoryRepository.class, "assignDeveloperIfAssignedTo", List.of("1", "1", "2"), PRIMARY_KEY),
+            arguments(StoryRepository.class, "assignDeveloperIfUnassigned", List.of("1", "1"), PRIMARY_KEY),
+            arguments(BugRepository.class, "findVersionById", List.of("1"), PRIMARY_KEY),
+            arguments(BugRepository.class, "deleteBugById", List.of("1"), PRIMARY_KEY),
+            arguments(BugRepository.class, "deleteBugsByIdIn", List.of("1, 2"), PRIMARY_KEY),
+            arguments(BugRepository.class, "assignDeveloper", List.of("1", "1"), PRIMARY_KEY),
+            arguments(BugRepository.class, "assignDeveloperIfAssignedTo", List.of("1", "1", "2"), PRIMARY_KEY),
+            arguments(BugRepository.class, "assignDeveloperIfUnassigned", List.of("1", "1"), PRIMARY_KEY),
+            arguments(DeveloperRepository.class, "count", List.of(), DIRECT_LOOKUP),
+            arguments(DeveloperRepository.class, "findVersionById", List.of("1"), PRIMARY_KEY),
+            arguments(DeveloperRepository.class, "deleteDeveloperById", List.of("1"), PRIMARY_KEY),
+            arguments(DeveloperRepository.class, "deleteDevelopersByIdIn", List.of("1, 2"), PRIMARY_KEY),
+            arguments(IssueRepository.class, "streamAllOrderById", List.of(), INDEX_SORTED));
+    }
+
+    static Stream<Arguments> jpqlQueries() {
+        return Stream.of(
+            arguments("select d from DeveloperEntity d where d.id > :id order by d.id", List.of("1"), PRIMARY_KEY),
+            arguments("select s from StoryEntity s left join fetch s.developer where s.id > :id order by s.id", List.of("1"), PRIMARY_KEY),
+            arguments("select b from BugEntity b left join fetch b.developer where b.id > :id order by b.id", List.of("1"), PRIMARY_KEY),
+            arguments("update StoryEntity i set i.status = :newStatus where i.status = :status", List.of("'ESTIMATED'", "'NEW'"),
+                TYPE_STATUS_INDEX),
+            arguments("update BugEntity i set i.status = :newStatus where i.status = :status", List.of("'VERIFIED'", "'NEW'"),
+                TYPE_STATUS_INDEX),
+            arguments("update IssueEntity i set i.developer = :newDeveloper where i.developer.id = :developerId", List.of("2", "1"),
+                DEVELOPER_INDEX),
+            arguments("update IssueEntity i set i.developer = :newDeveloper where i.id in :ids", List.of("2", "1, 2"), PRIMARY_KEY));
+    }
+
+    @ParameterizedTest(name = "{0}.{1}")
+    @MethodSource("repositoryQueries")
+    void test__repositoryQuery__shouldUseIndex(Class<?> repository, String methodName, List<String> parameters, String index) {
+        String entityName = ResolvableType.forClass(repository).as(Repository.class).resolveGeneric(0).getSimpleName();
+        String query = findQuery(repository, methodName).replace("#{#entityName}", entityName);
+
+        String plan = explain(query, parameters);
+
+        assertUsesIndex(plan, index);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("jpqlQueries")
+    void test__jpqlQuery__shouldUseIndex(String query, List<String> parameters, String index) {
+        String plan = explain(query, parameters);
+
+        assertUsesIndex(plan, index);
+    }
+
+    @Test
+    void test__repositoryQueries__shouldCoverEveryQuery() {
+        Set<String> covered = repositoryQueries()
+            .map(arguments -> ((Class<?>) arguments.get()[0]).getSimpleName() + "." + arguments.get()[1])
+            .collect(Collectors.toSet());
+
+        Set<String> declared = REPOSITORIES.stream()
+            .flatMap(repository -> Arrays.stream(repository.getMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .map(method -> repository.getSimpleName() + "." + method.getName()))
+            .collect(Collectors.toSet());
+
+        assertThat(covered).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    void test__planStoryQuery__shouldUseIndexSortedRangeScan() {
+        String plan = explain(StoryRepository.PLAN_STORY_QUERY, List.of("'NEW'"));
+
+        assertThat(plan).contains(TYPE_STATUS_INDEX + ": TYPE = 'STORY'");
+        assertThat(plan).contains("STATUS = 'NEW'");
+        assertThat(plan).contains("/* index sorted */");
+    }
+
+    private void assertUsesIndex(String plan, String index) {
+        assertThat(plan).containsPattern(index);
+        if (!DIRECT_LOOKUP.equals(index)) {
+            assertThat(plan).doesNotContain("tableScan");
+        }
+    }
+
+    private String findQuery(Class<?> repository, String methodName) {
+        return Arrays.stream(repository.getMethods())
+            .filter(method -> method.getName().equals(methodName) && method.isAnnotationPresent(Query.class))
+            .map(method -> method.getAnnotation(Query.class).value())
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private String explain(String query, List<String> parameters) {
+        String sql = translate(query);
+        for (String parameter : parameters) {
+            sql = sql.replaceFirst("\\?", parameter);
+        }
+        assertThat(sql).doesNotContain("?");
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+
+    private String translate(String query) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        QueryTranslator queryTranslator = new ASTQueryTranslatorFactory()
+            .createQueryTranslator(query, query, Collections.emptyMap(), sessionFactory, null);
+        queryTranslator.compile(Collections.emptyMap(), false);
+        return queryTranslator.collectSqlStrings().get(0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.issuetracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Checks that a patch only writes the columns it changed, which the story patch endpoint relies on to keep its updates small.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.example.issuetracker.repository.StoryPatchSqlTest$RecordingStatementInspector")
+class StoryPatchSqlTest {
+
+    @Autowired
+    private StoryRepository storyRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void test__saveAndFlush__withOnlyStatusChanged__shouldUpdateStatusAndVersion() {
+        StoryEntity storyEntity = new StoryEntity();
+        storyEntity.setTitle("title");
+        storyEntity.setDescription("description");
+        storyEntity.setStatus(StoryStatus.NEW);
+        storyEntity.setStoryPoint(3);
+        storyEntity.setCreationDate(LocalDateTime.of(2022, 3, 1, 9, 0));
+        Integer id = storyRepository.saveAndFlush(storyEntity).getId();
+        entityManager.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        StoryEntity patched = storyRepository.findById(id).orElseThrow();
+        patched.setStatus(StoryStatus.ESTIMATED);
+        storyRepository.saveAndFlush(patched);
+
+        List<String> updates = RecordingStatementInspector.STATEMENTS.stream()
+            .map(String::toLowerCase)
+            .filter(sql -> sql.startsWith("update"))
+            .collect(Collectors.toList());
+        assertThat(updates).containsExactly("update issue set version=?, status=? where id=? and version=?");
+        assertThat(patched.getVersion()).isEqualTo(1);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.issuetracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.issuetracker.domain.BugStatus;
+import com.example.issuetracker.domain.IssueBulkUpdate;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.entity.BugEntity;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.generator.PooledSequenceGenerator;
+import com.example.issuetracker.repository.projection.PlanStory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@DataJpaTest
+class StoryRepositoryTest {
+
+    private static final LocalDateTime CREATION_DATE = LocalDateTime.of(2022, 3, 1, 9, 0);
+
+    @Autowired
+    private StoryRepository storyRepository;
+    @Autowired
+    private BugRepository bugRepository;
+    @Autowired
+    private DeveloperRepository developerRepository;
+    @Autowired
+    private IssueRepository issueRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void test__findPlanStoriesByStatusIn__shouldOrderByCreationDate() {
+        Integer third = saveStory(StoryStatus.NEW, CREATION_DATE.plusHours(2)).getId();
+        Integer first = saveStory(StoryStatus.ESTIMATED, CREATION_DATE).getId();
+        saveStory(StoryStatus.COMPLETED, CREATION_DATE.plusHours(1));
+        Integer second = saveStory(StoryStatus.NEW, CREATION_DATE.plusHours(1)).getId();
+        Integer fourth = saveStory(StoryStatus.ESTIMATED, CREATION_DATE.plusHours(2)).getId();
+        saveBug();
+
+        List<PlanStory> planStories = storyRepository.findPlanStoriesByStatusIn(List.of(StoryStatus.NEW, StoryStatus.ESTIMATED));
+
+        assertThat(planStories).extracting(PlanStory::getId).containsExactly(first, second, third, fourth);
+        try (Stream<PlanStory> planStoryStream = storyRepository.streamPlanStoriesByStatusIn(List.of(StoryStatus.NEW, StoryStatus.ESTIMATED))) {
+            assertThat(planStoryStream.map(PlanStory::getId).collect(Collectors.toList())).containsExactly(first, second, third, fourth);
+        }
+    }
+
+    @Test
+    void test__streamPlanStoriesByStatusIn__shouldFollowPlanOrder() {
+        Integer third = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        Integer second = saveStory(StoryStatus.NEW, null).getId();
+        Integer fourth = saveStory(StoryStatus.ESTIMATED, CREATION_DATE).getId();
+        Integer first = saveStory(StoryStatus.ESTIMATED, null).getId();
+        Integer fifth = saveStory(StoryStatus.NEW, CREATION_DATE.plusHours(1)).getId();
+        List<StoryStatus> statusList = List.of(StoryStatus.NEW, StoryStatus.ESTIMATED);
+
+        List<PlanStory> planStories = storyRepository.findPlanStoriesByStatusIn(statusList);
+
+        assertThat(planStories).isSortedAccordingTo(PlanStory.PLAN_ORDER);
+        assertThat(planStories).extracting(PlanStory::getId).containsExactly(Math.min(first, second), Math.max(first, second), third,
+            fourth, fifth);
+        try (Stream<PlanStory> planStoryStream = storyRepository.streamPlanStoriesByStatusIn(statusList)) {
+            assertThat(planStoryStream.map(PlanStory::getId).collect(Collectors.toList()))
+                .isEqualTo(planStories.stream().map(PlanStory::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void test__findByIdGreaterThanOrderById__shouldReadPagesAfterId() {
+        Integer first = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        saveBug();
+        Integer second = saveStory(StoryStatus.COMPLETED, CREATION_DATE).getId();
+        Integer third = saveStory(StoryStatus.ESTIMATED, CREATION_DATE).getId();
+
+        List<StoryEntity> firstPage = storyRepository.findByIdGreaterThanOrderById(Integer.MIN_VALUE, PageRequest.ofSize(2));
+        List<StoryEntity> secondPage = storyRepository.findByIdGreaterThanOrderById(firstPage.get(1).getId(), PageRequest.ofSize(2));
+
+        assertThat(firstPage).extracting(StoryEntity::getId).containsExactly(first, second);
+        assertThat(secondPage).extracting(StoryEntity::getId).containsExactly(third);
+    }
+
+    @Test
+    void test__findAllById__shouldFetchDeveloper() {
+        DeveloperEntity developerEntity = saveDeveloper();
+        StoryEntity storyEntity = buildStoryEntity(StoryStatus.NEW, CREATION_DATE);
+        storyEntity.setDeveloper(developerEntity);
+        Integer assigned = storyRepository.save(storyEntity).getId();
+        Integer unassigned = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        Integer bug = saveBug().getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StoryEntity> stories = storyRepository.findAllById(List.of(assigned, unassigned, bug, Integer.MAX_VALUE));
+
+        assertThat(stories).extracting(StoryEntity::getId).containsExactlyInAnyOrder(assigned, unassigned);
+        assertThat(stories).allMatch(story -> entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(story, "developer"));
+    }
+
+    @Test
+    void test__saveAll__shouldAllocateIdsFromPooledSequence() {
+        List<StoryEntity> storyEntities = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            StoryEntity storyEntity = new StoryEntity();
+            storyEntity.setTitle("title");
+            storyEntity.setStatus(StoryStatus.NEW);
+            storyEntity.setStoryPoint(1);
+            storyEntity.setCreationDate(CREATION_DATE);
+            storyEntities.add(storyEntity);
+        }
+
+        List<StoryEntity> saved = storyRepository.saveAll(storyEntities);
+        storyRepository.flush();
+
+        Integer firstId = saved.get(0).getId();
+        assertThat(saved).extracting(StoryEntity::getId).containsExactlyElementsOf(
+            IntStream.range(firstId, firstId + 60).boxed().collect(Collectors.toList()));
+        Object increment = entityManager
+            .createNativeQuery("select increment from information_schema.sequences where sequence_name = 'ISSUE_SEQUENCE'")
+            .getSingleResult();
+        assertThat(((Number) increment).intValue()).isEqualTo(PooledSequenceGenerator.DEFAULT_BLOCK_SIZE);
+    }
+
+    @Test
+    void test__bulkUpdate__shouldUpdateMatchingStoriesInOneStatement() {
+        Integer first = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        Integer second = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        Integer estimated = saveStory(StoryStatus.ESTIMATED, CREATION_DATE).getId();
+        saveBug();
+
+        int affected = issueRepository.bulkUpdate(
+            new IssueBulkUpdate(StoryEntity.class, null, StoryStatus.NEW, null, StoryStatus.COMPLETED, null));
+
+        assertThat(affected).isEqualTo(2);
+        assertThat(storyRepository.findAllById(List.of(first, second, estimated)))
+            .extracting(StoryEntity::getStatus)
+            .containsExactlyInAnyOrder(StoryStatus.COMPLETED, StoryStatus.COMPLETED, StoryStatus.ESTIMATED);
+        assertThat(bugRepository.findAll()).extracting(BugEntity::getStatus).containsOnly(BugStatus.NEW);
+    }
+
+    @Test
+    void test__deleteStoryById__shouldDeleteOnlyStories() {
+        Integer storyId = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        Integer bugId = saveBug().getId();
+
+        assertThat(storyRepository.deleteStoryById(bugId)).isZero();
+        assertThat(storyRepository.deleteStoryById(storyId)).isEqualTo(1);
+        assertThat(storyRepository.deleteStoryById(storyId)).isZero();
+        assertThat(bugRepository.existsById(bugId)).isTrue();
+    }
+
+    @Test
+    void test__assignDeveloper__shouldCompareAndSetAssignee() {
+        DeveloperEntity first = saveDeveloper();
+        DeveloperEntity second = saveDeveloper();
+        Integer storyId = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+
+        assertThat(storyRepository.assignDeveloperIfAssignedTo(storyId, developerRepository.getById(second.getId()), first.getId())).isZero();
+        assertThat(storyRepository.assignDeveloperIfUnassigned(storyId, developerRepository.getById(first.getId()))).isEqualTo(1);
+        assertThat(storyRepository.assignDeveloperIfUnassigned(storyId, developerRepository.getById(second.getId()))).isZero();
+        assertThat(storyRepository.assignDeveloperIfAssignedTo(storyId, developerRepository.getById(second.getId()), first.getId()))
+            .isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(storyRepository.findById(storyId).orElseThrow().getDeveloper().getId()).isEqualTo(second.getId());
+    }
+
+    @Test
+    void test__assignDeveloper__shouldIncrementVersion() {
+        DeveloperEntity developerEntity = saveDeveloper();
+        Integer storyId = storyRepository.saveAndFlush(buildStoryEntity(StoryStatus.NEW, CREATION_DATE)).getId();
+
+        storyRepository.assignDeveloper(storyId, developerRepository.getById(developerEntity.getId()));
+        entityManager.clear();
+
+        assertThat(storyRepository.findById(storyId).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void test__save__whenVersionIsStale__shouldFailOptimisticLock() {
+        DeveloperEntity developerEntity = saveDeveloper();
+        Integer storyId = storyRepository.saveAndFlush(buildStoryEntity(StoryStatus.NEW, CREATION_DATE)).getId();
+        entityManager.clear();
+        StoryEntity staleStory = storyRepository.findById(storyId).orElseThrow();
+        entityManager.clear();
+        storyRepository.assignDeveloper(storyId, developerRepository.getById(developerEntity.getId()));
+        entityManager.clear();
+
+        staleStory.setTitle("title updated");
+
+        assertThatThrownBy(() -> storyRepository.save(staleStory))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void test__assignDeveloper__whenDeveloperNotFound__shouldViolateForeignKey() {
+        Integer storyId = saveStory(StoryStatus.NEW, CREATION_DATE).getId();
+        DeveloperEntity developerEntity = developerRepository.getById(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> storyRepository.assignDeveloper(storyId, developerEntity))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private StoryEntity saveStory(StoryStatus status, LocalDateTime creationDate) {
+        return storyRepository.save(buildStoryEntity(status, creationDate));
+    }
+
+    private StoryEntity buildStoryEntity(StoryStatus status, LocalDateTime creationDate) {
+        StoryEntity storyEntity = new StoryEntity();
+        storyEntity.setTitle("title");
+        storyEntity.setStatus(status);
+        storyEntity.setStoryPoint(3);
+        storyEntity.setCreationDate(creationDate);
+        return storyEntity;
+    }
+
+    private DeveloperEntity saveDeveloper() {
+        DeveloperEntity developerEntity = new DeveloperEntity();
+        developerEntity.setName("developer");
+        return developerRepository.saveAndFlush(developerEntity);
+    }
+
+    private BugEntity saveBug() {
+        BugEntity bugEntity = new BugEntity();
+        bugEntity.setTitle("title");
+        bugEntity.setStatus(BugStatus.NEW);
+        bugEntity.setCreationDate(CREATION_DATE);
+        return bugRepository.save(bugEntity);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.issuetracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.DeveloperPlanListResponse;
+import com.example.issuetracker.controller.response.DeveloperPlanResponse;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperPlanServiceTest {
+
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+    @Mock
+    private PlanService planService;
+    private ForkJoinPool planningForkJoinPool;
+    private DeveloperPlanService developerPlanService;
+
+    @BeforeEach
+    void setUp() {
+        planningForkJoinPool = new ForkJoinPool(2);
+        developerPlanService = new DeveloperPlanService(applicationConfiguration, planService, planningForkJoinPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planningForkJoinPool.shutdown();
+    }
+
+    @Test
+    void test__getDeveloperPlan__shouldBalanceLongestStoriesFirst() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        List<IssueResponse> stories = List.of(
+            buildIssueResponse(1, 3, null),
+            buildIssueResponse(2, 8, null),
+            buildIssueResponse(3, 5, null),
+            buildIssueResponse(4, 5, null),
+            buildIssueResponse(5, 3, null));
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(2), stories));
+
+        DeveloperPlanListResponse response = developerPlanService.getDeveloperPlan();
+
+        assertThat(response.getDeveloperPlans()).hasSize(2);
+        assertThat(response.getDeveloperPlans()).extracting(DeveloperPlanResponse::getStoryPoints).containsExactly(11L, 13L);
+        assertThat(storyIds(response.getDeveloperPlans().get(0))).containsExactly(1, 2);
+        assertThat(storyIds(response.getDeveloperPlans().get(1))).containsExactly(3, 4, 5);
+        assertThat(response.getWeeks()).isEqualTo(2);
+    }
+
+    @Test
+    void test__getDeveloperPlan__shouldCountPreAssignedStoriesAgainstOwner() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        List<IssueResponse> stories = List.of(
+            buildIssueResponse(1, 8, 1),
+            buildIssueResponse(2, 8, 1),
+            buildIssueResponse(3, 5, null),
+            buildIssueResponse(4, 5, null));
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(2), stories));
+
+        DeveloperPlanListResponse response = developerPlanService.getDeveloperPlan();
+
+        assertThat(response.getDeveloperPlans()).extracting(DeveloperPlanResponse::getStoryPoints).containsExactly(16L, 10L);
+        assertThat(storyIds(response.getDeveloperPlans().get(0))).containsExactly(1, 2);
+        assertThat(storyIds(response.getDeveloperPlans().get(1))).containsExactly(3, 4);
+        assertThat(response.getDeveloperPlans().get(0).getPlans()).extracting(PlanResponse::getWeek).containsExactly(1, 2);
+        assertThat(response.getDeveloperPlans().get(1).getPlans()).extracting(PlanResponse::getWeek).containsExactly(1);
+        assertThat(response.getWeeks()).isEqualTo(2);
+    }
+
+    @Test
+    void test__getDeveloperPlan__withStoryOverCapacity__shouldStartInFirstWeek() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        List<IssueResponse> stories = List.of(
+            buildIssueResponse(1, 13, 1),
+            buildIssueResponse(2, 4, 1),
+            buildIssueResponse(3, 6, 1));
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(1), stories));
+
+        DeveloperPlanListResponse response = developerPlanService.getDeveloperPlan();
+
+        List<PlanResponse> plans = response.getDeveloperPlans().get(0).getPlans();
+        assertThat(plans).extracting(PlanResponse::getWeek).containsExactly(1, 2);
+        assertThat(plans.get(0).getIssues()).extracting(IssueResponse::getId).containsExactly(1);
+        assertThat(plans.get(1).getIssues()).extracting(IssueResponse::getId).containsExactly(2, 3);
+        assertThat(response.getWeeks()).isEqualTo(2);
+    }
+
+    @Test
+    void test__getDeveloperPlan__withNoDevelopers__shouldSuccessWithoutPlan() {
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, Collections.emptyList(), List.of(buildIssueResponse(1, 3, null))));
+
+        DeveloperPlanListResponse response = developerPlanService.getDeveloperPlan();
+
+        assertThat(response.getWeeks()).isZero();
+        assertThat(response.getDeveloperPlans()).isEmpty();
+        verify(applicationConfiguration, never()).getAverageStoryPoint();
+    }
+
+    @Test
+    void test__getDeveloperPlan__withLargeBacklog__shouldKeepEveryStory() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        List<IssueResponse> stories = new ArrayList<>();
+        for (int i = 1; i <= 10000; i++) {
+            stories.add(buildIssueResponse(i, i % 13 + 1, i % 7 == 0 ? i % 200 + 1 : null));
+        }
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(200), stories));
+
+        DeveloperPlanListResponse response = developerPlanService.getDeveloperPlan();
+
+        assertThat(response.getDeveloperPlans()).hasSize(200);
+        assertThat(response.getDeveloperPlans().stream().mapToInt(developerPlan -> storyIds(developerPlan).size()).sum()).isEqualTo(10000);
+        long total = stories.stream().mapToLong(IssueResponse::getStoryPoint).sum();
+        assertThat(response.getDeveloperPlans().stream().mapToLong(DeveloperPlanResponse::getStoryPoints).sum()).isEqualTo(total);
+    }
+
+    private List<Integer> storyIds(DeveloperPlanResponse developerPlanResponse) {
+        return developerPlanResponse.getPlans()
+            .stream()
+            .flatMap(planResponse -> planResponse.getIssues().stream())
+            .map(IssueResponse::getId)
+            .collect(Collectors.toList());
+    }
+
+    private IssueResponse buildIssueResponse(Integer id, Integer storyPoint, Integer developerId) {
+        IssueResponse issueResponse = new IssueResponse();
+        issueResponse.setId(id);
+        issueResponse.setStoryPoint(storyPoint);
+        if (developerId != null) {
+            issueResponse.setDeveloper(new DeveloperResponse(developerId, "developer"));
+        }
+        return issueResponse;
+    }
+
+    private List<DeveloperResponse> buildDeveloperList(int numberOfDevelopers) {
+        List<DeveloperResponse> developers = new ArrayList<>();
+        for (int i = 1; i <= numberOfDevelopers; i++) {
+            developers.add(new DeveloperResponse(i, "developer"));
+        }
+        return developers;
+    }
+}
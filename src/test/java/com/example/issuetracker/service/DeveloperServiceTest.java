@@ -4,30 +4,47 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.issuetracker.config.ApplicationConfiguration;
 import com.example.issuetracker.controller.request.DeveloperCreateUpdateRequest;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
 import com.example.issuetracker.controller.response.DeveloperListResponse;
 import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.domain.DevelopersChangedEvent;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.exception.PreconditionFailedException;
 import com.example.issuetracker.repository.DeveloperRepository;
 import com.example.issuetracker.repository.entity.DeveloperEntity;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class DeveloperServiceTest {
 
     @Mock
     private DeveloperRepository developerRepository;
+    @Mock
+    private PlanService planService;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
     @InjectMocks
     private DeveloperService developerService;
 
@@ -46,6 +63,40 @@ class DeveloperServiceTest {
         assertThat(developerResponse.getName()).isEqualTo("name");
 
         verify(developerRepository).save(any(DeveloperEntity.class));
+        verify(planService).developerSaved(any(DeveloperEntity.class));
+    }
+
+    @Test
+    void test__createDevelopers__shouldSaveValidDevelopersTogether() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(developerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<DeveloperEntity> developerEntities = invocation.getArgument(0);
+            for (int i = 0; i < developerEntities.size(); i++) {
+                developerEntities.get(i).setId(i + 1);
+            }
+            return developerEntities;
+        });
+
+        BatchResponse<DeveloperResponse> batchResponse = developerService.createDevelopers(
+            List.of(buildDeveloperCreateUpdateRequest(), new DeveloperCreateUpdateRequest(" ")));
+
+        assertThat(batchResponse.getSucceeded()).isEqualTo(1);
+        assertThat(batchResponse.getFailed()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(0).getData().getName()).isEqualTo("name");
+        assertThat(batchResponse.getResults().get(1).getMessage()).isEqualTo(ResponseMessageEnum.INVALID_DEVELOPER_NAME.getMessage());
+
+        verify(planService).developersSaved(anyList());
+        verify(planService, never()).developerSaved(any(DeveloperEntity.class));
+    }
+
+    @Test
+    void test__createDevelopers__withNoRequests__shouldFail() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> developerService.createDevelopers(Collections.emptyList()));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_BATCH_SIZE);
     }
 
     @Test
@@ -68,19 +119,34 @@ class DeveloperServiceTest {
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
     }
 
+    @Test
+    void test__getDevelopersByIds__shouldReportMissingIdsPerItem() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(developerRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(buildDeveloperEntity()));
+
+        BatchResponse<DeveloperResponse> batchResponse = developerService.getDevelopersByIds(List.of(1, 2));
+
+        assertThat(batchResponse.getSucceeded()).isEqualTo(1);
+        assertThat(batchResponse.getFailed()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(0).getData().getId()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(1).getMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND.getMessage());
+    }
+
     @Test
     void test__updateDeveloper__shouldSuccess() {
         when(developerRepository.findById(anyInt())).thenReturn(Optional.of(buildDeveloperEntity()));
 
         when(developerRepository.save(any(DeveloperEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, DeveloperEntity.class));
 
-        DeveloperResponse developerResponse = developerService.updateDeveloper(1, buildDeveloperCreateUpdateRequest());
+        DeveloperResponse developerResponse = developerService.updateDeveloper(1, null, buildDeveloperCreateUpdateRequest());
 
         assertThat(developerResponse).isNotNull();
         assertThat(developerResponse.getId()).isEqualTo(1);
         assertThat(developerResponse.getName()).isEqualTo("name");
 
         verify(developerRepository).save(any(DeveloperEntity.class));
+        verify(planService).developerSaved(any(DeveloperEntity.class));
+        verify(applicationEventPublisher).publishEvent(new DevelopersChangedEvent(List.of(1)));
     }
 
     @Test
@@ -88,53 +154,129 @@ class DeveloperServiceTest {
         when(developerRepository.findById(anyInt())).thenReturn(Optional.empty());
 
         BadRequestException badRequestException = assertThrows(BadRequestException.class,
-            () -> developerService.updateDeveloper(1, buildDeveloperCreateUpdateRequest()));
+            () -> developerService.updateDeveloper(1, null, buildDeveloperCreateUpdateRequest()));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
 
         verify(developerRepository, never()).save(any(DeveloperEntity.class));
     }
 
+    @Test
+    void test__updateDeveloper__whenVersionChanged__shouldFail() {
+        DeveloperEntity developerEntity = buildDeveloperEntity();
+        developerEntity.setVersion(3);
+        when(developerRepository.findById(anyInt())).thenReturn(Optional.of(developerEntity));
+
+        PreconditionFailedException preconditionFailedException = assertThrows(PreconditionFailedException.class,
+            () -> developerService.updateDeveloper(1, 2, buildDeveloperCreateUpdateRequest()));
+        assertThat(preconditionFailedException.getResponseMessage()).isEqualTo(ResponseMessageEnum.VERSION_CHANGED);
+
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+    }
+
     @Test
     void test__deleteDeveloper__shouldSuccess() {
-        when(developerRepository.existsById(anyInt())).thenReturn(Boolean.TRUE);
+        when(developerRepository.deleteDeveloperById(anyInt())).thenReturn(1);
 
         developerService.deleteDeveloper(1);
 
-        verify(developerRepository).deleteById(1);
+        verify(developerRepository).deleteDeveloperById(1);
+        verify(planService).developerDeleted(1);
+        verify(applicationEventPublisher).publishEvent(new DevelopersChangedEvent(List.of(1)));
     }
 
     @Test
     void test__deleteDeveloper__whenDeveloperNotFound__shouldFail() {
-        when(developerRepository.existsById(anyInt())).thenReturn(Boolean.FALSE);
+        when(developerRepository.deleteDeveloperById(anyInt())).thenReturn(0);
 
         BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> developerService.deleteDeveloper(1));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
 
-        verify(developerRepository, never()).deleteById(1);
+        verify(planService, never()).developerDeleted(anyInt());
+    }
+
+    @Test
+    void test__deleteDevelopers__shouldSuccess() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(developerRepository.deleteDevelopersByIdIn(anyList())).thenReturn(2);
+
+        BulkUpdateResponse bulkUpdateResponse = developerService.deleteDevelopers(List.of(1, 2));
+
+        assertThat(bulkUpdateResponse.getAffected()).isEqualTo(2);
+        verify(developerRepository).deleteDevelopersByIdIn(List.of(1, 2));
+        verify(planService).developersDeleted(List.of(1, 2));
+        verify(applicationEventPublisher).publishEvent(new DevelopersChangedEvent(List.of(1, 2)));
     }
 
     @Test
     void test__getAllDeveloper__shouldSuccess() {
-        when(developerRepository.findAll()).thenReturn(Collections.singletonList(buildDeveloperEntity()));
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+        when(developerRepository.findByIdGreaterThanOrderById(Integer.MIN_VALUE, PageRequest.ofSize(101)))
+            .thenReturn(Collections.singletonList(buildDeveloperEntity()));
 
-        DeveloperListResponse developerListResponse = developerService.getAllDeveloper();
+        DeveloperListResponse developerListResponse = developerService.getAllDeveloper(null, null);
 
         assertThat(developerListResponse).isNotNull();
         assertThat(developerListResponse.getDevelopers()).hasSize(1);
         assertThat(developerListResponse.getDevelopers().get(0).getId()).isEqualTo(1);
         assertThat(developerListResponse.getDevelopers().get(0).getName()).isEqualTo("name");
+        assertThat(developerListResponse.getNextCursor()).isNull();
     }
 
     @Test
     void test__getAllDeveloper__withNoDevelopers__shouldSuccessAndEmptyList() {
-        when(developerRepository.findAll()).thenReturn(Collections.emptyList());
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+        when(developerRepository.findByIdGreaterThanOrderById(anyInt(), any(Pageable.class))).thenReturn(Collections.emptyList());
 
-        DeveloperListResponse developerListResponse = developerService.getAllDeveloper();
+        DeveloperListResponse developerListResponse = developerService.getAllDeveloper(null, null);
 
         assertThat(developerListResponse).isNotNull();
         assertThat(developerListResponse.getDevelopers()).isEmpty();
+        assertThat(developerListResponse.getNextCursor()).isNull();
+    }
+
+    @Test
+    void test__getAllDeveloper__withMorePages__shouldReturnNextCursor() {
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+        DeveloperEntity first = buildDeveloperEntity();
+        first.setId(5);
+        DeveloperEntity second = buildDeveloperEntity();
+        second.setId(6);
+        DeveloperEntity third = buildDeveloperEntity();
+        third.setId(7);
+        when(developerRepository.findByIdGreaterThanOrderById(4, PageRequest.ofSize(3))).thenReturn(List.of(first, second, third));
+
+        DeveloperListResponse developerListResponse = developerService.getAllDeveloper(KeysetPager.encode(4), 2);
+
+        assertThat(developerListResponse.getDevelopers()).extracting(DeveloperResponse::getId).containsExactly(5, 6);
+        assertThat(KeysetPager.decode(developerListResponse.getNextCursor())).isEqualTo(6);
+    }
+
+    @Test
+    void test__getAllDeveloper__withInvalidCursor__shouldFail() {
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> developerService.getAllDeveloper("not-a-cursor", null));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_CURSOR);
+        verify(developerRepository, never()).findByIdGreaterThanOrderById(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    void test__getAllDeveloper__withTooLargeLimit__shouldFail() {
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> developerService.getAllDeveloper(null, 1001));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_PAGE_SIZE);
     }
 
     private DeveloperCreateUpdateRequest buildDeveloperCreateUpdateRequest() {
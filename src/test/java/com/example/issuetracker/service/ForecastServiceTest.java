@@ -0,0 +1,141 @@
+package com.example.issuetracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.ForecastListResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.StoryForecastResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastServiceTest {
+
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+    @Mock
+    private PlanService planService;
+    private ForkJoinPool planningForkJoinPool;
+    private ForecastService forecastService;
+
+    @BeforeEach
+    void setUp() {
+        planningForkJoinPool = new ForkJoinPool(2);
+        forecastService = new ForecastService(applicationConfiguration, planService, planningForkJoinPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planningForkJoinPool.shutdown();
+    }
+
+    @Test
+    void test__getForecast__withoutVelocitySpread__shouldMatchAverageVelocity() {
+        when(applicationConfiguration.getForecastMaxSimulations()).thenReturn(2000);
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(applicationConfiguration.getForecastVelocitySpread()).thenReturn(0.0);
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(1), buildStoryList(4, 10)));
+
+        ForecastListResponse response = forecastService.getForecast(100, 1L);
+
+        assertThat(response.getSimulations()).isEqualTo(100);
+        assertThat(response.getSeed()).isEqualTo(1L);
+        assertThat(response.getForecasts()).extracting(StoryForecastResponse::getP50).containsExactly(1, 2, 3, 4);
+        assertThat(response.getForecasts()).extracting(StoryForecastResponse::getP95).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void test__getForecast__withSameSeed__shouldBeReproducible() {
+        when(applicationConfiguration.getForecastMaxSimulations()).thenReturn(2000);
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(applicationConfiguration.getForecastVelocitySpread()).thenReturn(0.5);
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(3), buildStoryList(500, 3)));
+
+        ForecastListResponse first = forecastService.getForecast(1000, 42L);
+        ForecastListResponse second = forecastService.getForecast(1000, 42L);
+
+        assertThat(first.getForecasts()).hasSize(500);
+        assertThat(second.getForecasts()).usingRecursiveFieldByFieldElementComparator().isEqualTo(first.getForecasts());
+        StoryForecastResponse previous = first.getForecasts().get(0);
+        for (StoryForecastResponse forecast : first.getForecasts()) {
+            assertThat(forecast.getP50()).isLessThanOrEqualTo(forecast.getP85());
+            assertThat(forecast.getP85()).isLessThanOrEqualTo(forecast.getP95());
+            assertThat(forecast.getP50()).isGreaterThanOrEqualTo(previous.getP50());
+            assertThat(forecast.getP95()).isGreaterThanOrEqualTo(previous.getP95());
+            previous = forecast;
+        }
+        assertThat(previous.getP95()).isGreaterThan(previous.getP50());
+    }
+
+    @Test
+    void test__getForecast__withLargeBacklog__shouldForecastEveryStory() {
+        when(applicationConfiguration.getForecastSimulations()).thenReturn(1000);
+        when(applicationConfiguration.getForecastMaxSimulations()).thenReturn(2000);
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(applicationConfiguration.getForecastVelocitySpread()).thenReturn(0.3);
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, buildDeveloperList(20), buildStoryList(50000, 5)));
+
+        ForecastListResponse response = forecastService.getForecast(null, null);
+
+        assertThat(response.getSimulations()).isEqualTo(1000);
+        assertThat(response.getSeed()).isNotNull();
+        assertThat(response.getForecasts()).hasSize(50000);
+        assertThat(response.getForecasts().get(49999).getP50()).isBetween(1200, 1300);
+    }
+
+    @Test
+    void test__getForecast__withNoDevelopers__shouldSuccessWithoutForecast() {
+        when(applicationConfiguration.getForecastMaxSimulations()).thenReturn(2000);
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(1, Collections.emptyList(), buildStoryList(3, 1)));
+
+        ForecastListResponse response = forecastService.getForecast(10, 1L);
+
+        assertThat(response.getForecasts()).isEmpty();
+    }
+
+    @Test
+    void test__getForecast__withTooManySimulations__shouldFail() {
+        when(applicationConfiguration.getForecastMaxSimulations()).thenReturn(2000);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> forecastService.getForecast(2001, 1L));
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_SIMULATIONS);
+
+        verify(planService, never()).getPlanBacklog();
+    }
+
+    private List<IssueResponse> buildStoryList(int numberOfStories, int storyPoint) {
+        List<IssueResponse> stories = new ArrayList<>();
+        for (int i = 1; i <= numberOfStories; i++) {
+            IssueResponse issueResponse = new IssueResponse();
+            issueResponse.setId(i);
+            issueResponse.setStoryPoint(storyPoint);
+            stories.add(issueResponse);
+        }
+        return stories;
+    }
+
+    private List<DeveloperResponse> buildDeveloperList(int numberOfDevelopers) {
+        List<DeveloperResponse> developers = new ArrayList<>();
+        for (int i = 1; i <= numberOfDevelopers; i++) {
+            developers.add(new DeveloperResponse(i, "developer"));
+        }
+        return developers;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.issuetracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.issuetracker.domain.BugStatus;
+import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.Priority;
+import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.repository.IssueRepository;
+import com.example.issuetracker.repository.entity.BugEntity;
+import com.example.issuetracker.repository.entity.DeveloperEntity;
+import com.example.issuetracker.repository.entity.IssueEntity;
+import com.example.issuetracker.repository.entity.StoryEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IssueExportServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @InjectMocks
+    private IssueExportService issueExportService;
+
+    @Test
+    void test__writeIssues__shouldWriteOneLinePerIssue() throws Exception {
+        StoryEntity storyEntity = buildStoryEntity(1);
+        storyEntity.setDeveloper(buildDeveloperEntity());
+        when(issueRepository.streamAllOrderById()).thenReturn(Stream.of(storyEntity, buildBugEntity(2)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        issueExportService.writeIssues(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode story = objectMapper.readTree(lines[0]);
+        assertThat(story.get("id").asInt()).isEqualTo(1);
+        assertThat(story.get("type").asText()).isEqualTo(IssueType.STORY.name());
+        assertThat(story.get("story_point").asInt()).isEqualTo(3);
+        assertThat(story.get("developer").get("name").asText()).isEqualTo("developer");
+        JsonNode bug = objectMapper.readTree(lines[1]);
+        assertThat(bug.get("type").asText()).isEqualTo(IssueType.BUG.name());
+        assertThat(bug.get("priority").asText()).isEqualTo(Priority.MAJOR.name());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void test__writeIssues__shouldClearPersistenceContextAfterEveryBatch() throws Exception {
+        int numberOfIssues = IssueRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        List<IssueEntity> issues = IntStream.rangeClosed(1, numberOfIssues)
+            .mapToObj(this::buildStoryEntity)
+            .collect(Collectors.toList());
+        when(issueRepository.streamAllOrderById()).thenReturn(issues.stream());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        issueExportService.writeIssues(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).lines()).hasSize(numberOfIssues);
+        verify(entityManager, times(2)).clear();
+    }
+
+    private StoryEntity buildStoryEntity(int id) {
+        StoryEntity storyEntity = new StoryEntity();
+        storyEntity.setId(id);
+        storyEntity.setType(IssueType.STORY);
+        storyEntity.setTitle("title");
+        storyEntity.setStoryPoint(3);
+        storyEntity.setStatus(StoryStatus.NEW);
+        storyEntity.setCreationDate(LocalDateTime.now());
+        return storyEntity;
+    }
+
+    private BugEntity buildBugEntity(int id) {
+        BugEntity bugEntity = new BugEntity();
+        bugEntity.setId(id);
+        bugEntity.setType(IssueType.BUG);
+        bugEntity.setTitle("title");
+        bugEntity.setPriority(Priority.MAJOR);
+        bugEntity.setStatus(BugStatus.NEW);
+        bugEntity.setCreationDate(LocalDateTime.now());
+        return bugEntity;
+    }
+
+    private DeveloperEntity buildDeveloperEntity() {
+        DeveloperEntity developerEntity = new DeveloperEntity();
+        developerEntity.setId(1);
+        developerEntity.setName("developer");
+        return developerEntity;
+    }
+}
@@ -4,36 +4,58 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.issuetracker.config.ApplicationConfiguration;
 import com.example.issuetracker.controller.request.AssigneeRequest;
 import com.example.issuetracker.controller.request.BugCreateRequest;
+import com.example.issuetracker.controller.request.BugPatchRequest;
 import com.example.issuetracker.controller.request.BugUpdateRequest;
+import com.example.issuetracker.controller.request.IssueBulkUpdateRequest;
+import com.example.issuetracker.controller.request.IssueChangeRequest;
+import com.example.issuetracker.controller.request.IssueFilterRequest;
 import com.example.issuetracker.controller.request.StoryCreateRequest;
+import com.example.issuetracker.controller.request.StoryPatchRequest;
 import com.example.issuetracker.controller.request.StoryUpdateRequest;
+import com.example.issuetracker.controller.response.BatchItemResponse;
+import com.example.issuetracker.controller.response.BatchResponse;
+import com.example.issuetracker.controller.response.BugListResponse;
 import com.example.issuetracker.controller.response.BugResponse;
+import com.example.issuetracker.controller.response.BulkUpdateResponse;
+import com.example.issuetracker.controller.response.StoryListResponse;
 import com.example.issuetracker.controller.response.StoryResponse;
 import com.example.issuetracker.domain.BugStatus;
+import com.example.issuetracker.domain.IssueBulkUpdate;
 import com.example.issuetracker.domain.Priority;
 import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.domain.StoryStatus;
 import com.example.issuetracker.exception.BadRequestException;
+import com.example.issuetracker.exception.ConflictException;
+import com.example.issuetracker.exception.PreconditionFailedException;
 import com.example.issuetracker.repository.BugRepository;
 import com.example.issuetracker.repository.DeveloperRepository;
+import com.example.issuetracker.repository.IssueRepository;
 import com.example.issuetracker.repository.StoryRepository;
 import com.example.issuetracker.repository.entity.BugEntity;
 import com.example.issuetracker.repository.entity.DeveloperEntity;
 import com.example.issuetracker.repository.entity.StoryEntity;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class IssueServiceTest {
@@ -44,6 +66,12 @@ class IssueServiceTest {
     private BugRepository bugRepository;
     @Mock
     private DeveloperRepository developerRepository;
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private PlanService planService;
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
     @InjectMocks
     private IssueService issueService;
 
@@ -66,6 +94,88 @@ class IssueServiceTest {
         assertThat(storyResponse.getCreationDate()).isNotNull();
 
         verify(storyRepository).save(any(StoryEntity.class));
+        verify(planService).storySaved(any(StoryEntity.class));
+    }
+
+    @Test
+    void test__createStories__shouldSaveValidStoriesTogether() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(storyRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<StoryEntity> storyEntities = invocation.getArgument(0);
+            for (int i = 0; i < storyEntities.size(); i++) {
+                storyEntities.get(i).setId(i + 1);
+            }
+            return storyEntities;
+        });
+        StoryCreateRequest invalidStoryCreateRequest = buildStoryCreateRequest();
+        invalidStoryCreateRequest.setStoryPoint(null);
+
+        BatchResponse<StoryResponse> batchResponse = issueService.createStories(
+            Arrays.asList(buildStoryCreateRequest(), invalidStoryCreateRequest, null, buildStoryCreateRequest()));
+
+        assertThat(batchResponse.getSucceeded()).isEqualTo(2);
+        assertThat(batchResponse.getFailed()).isEqualTo(2);
+        assertThat(batchResponse.getResults()).extracting(BatchItemResponse::getMessage).containsExactly(
+            ResponseMessageEnum.SUCCESS.getMessage(), ResponseMessageEnum.INVALID_STORY_POINT.getMessage(),
+            ResponseMessageEnum.INVALID_REQUEST.getMessage(), ResponseMessageEnum.SUCCESS.getMessage());
+        assertThat(batchResponse.getResults().get(0).getData().getId()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(1).getData()).isNull();
+        assertThat(batchResponse.getResults().get(3).getData().getId()).isEqualTo(2);
+
+        verify(storyRepository, never()).save(any(StoryEntity.class));
+        verify(planService).storiesSaved(anyList());
+    }
+
+    @Test
+    void test__createStories__withTooManyRequests__shouldFail() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(1);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.createStories(List.of(buildStoryCreateRequest(), buildStoryCreateRequest())));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        verify(storyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void test__getStories__shouldSuccess() {
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+        StoryEntity storyEntity = buildStoryEntity();
+        when(storyRepository.findByIdGreaterThanOrderById(Integer.MIN_VALUE, PageRequest.ofSize(2))).thenReturn(List.of(storyEntity));
+
+        StoryListResponse storyListResponse = issueService.getStories(null, 1);
+
+        assertThat(storyListResponse.getStories()).extracting(StoryResponse::getId).containsExactly(storyEntity.getId());
+        assertThat(storyListResponse.getNextCursor()).isNull();
+    }
+
+    @Test
+    void test__getStoriesByIds__shouldReportMissingIdsPerItem() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        StoryEntity storyEntity = buildStoryEntity();
+        storyEntity.setDeveloper(buildDeveloperEntity());
+        when(storyRepository.findAllById(Set.of(1, 2))).thenReturn(List.of(storyEntity));
+
+        BatchResponse<StoryResponse> batchResponse = issueService.getStoriesByIds(Arrays.asList(2, 1, 1));
+
+        assertThat(batchResponse.getSucceeded()).isEqualTo(2);
+        assertThat(batchResponse.getFailed()).isEqualTo(1);
+        assertThat(batchResponse.getResults()).extracting(BatchItemResponse::getMessage).containsExactly(
+            ResponseMessageEnum.STORY_NOT_FOUND.getMessage(), ResponseMessageEnum.SUCCESS.getMessage(), ResponseMessageEnum.SUCCESS.getMessage());
+        assertThat(batchResponse.getResults().get(1).getData().getDeveloper().getId()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(0).getData()).isNull();
+    }
+
+    @Test
+    void test__getStoriesByIds__whenTooManyIds__shouldFail() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(2);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.getStoriesByIds(List.of(1, 2, 3)));
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_BATCH_SIZE);
+
+        verify(storyRepository, never()).findAllById(anyIterable());
     }
 
     @Test
@@ -112,13 +222,24 @@ class IssueServiceTest {
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.STORY_NOT_FOUND);
     }
 
+    @Test
+    void test__getStoryETag__shouldQuoteVersion() {
+        when(storyRepository.findVersionById(1)).thenReturn(Optional.of(2));
+        when(storyRepository.findVersionById(2)).thenReturn(Optional.empty());
+
+        assertThat(issueService.getStoryETag(1)).isEqualTo("\"2\"");
+        assertThat(issueService.getStoryETag(2)).isNull();
+
+        verify(storyRepository, never()).findById(anyInt());
+    }
+
     @Test
     void test__updateStory__shouldSuccess() {
         when(storyRepository.findById(anyInt())).thenReturn(Optional.of(buildStoryEntity()));
 
         when(storyRepository.save(any(StoryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, StoryEntity.class));
 
-        StoryResponse storyResponse = issueService.updateStory(1, buildStoryUpdateRequest());
+        StoryResponse storyResponse = issueService.updateStory(1, null, buildStoryUpdateRequest());
 
         assertThat(storyResponse).isNotNull();
         assertThat(storyResponse.getId()).isEqualTo(1);
@@ -129,37 +250,117 @@ class IssueServiceTest {
         assertThat(storyResponse.getCreationDate()).isNotNull();
 
         verify(storyRepository).save(any(StoryEntity.class));
+        verify(planService).storySaved(any(StoryEntity.class));
     }
 
     @Test
     void test__updateStory__whenStoryNotFound__shouldFail() {
         when(storyRepository.findById(anyInt())).thenReturn(Optional.empty());
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.updateStory(1, buildStoryUpdateRequest()));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.updateStory(1, null, buildStoryUpdateRequest()));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.STORY_NOT_FOUND);
 
         verify(storyRepository, never()).save(any(StoryEntity.class));
     }
 
+    @Test
+    void test__updateStory__whenVersionChanged__shouldFail() {
+        StoryEntity storyEntity = buildStoryEntity();
+        storyEntity.setVersion(2);
+        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(storyEntity));
+
+        PreconditionFailedException preconditionFailedException = assertThrows(PreconditionFailedException.class,
+            () -> issueService.updateStory(1, 1, buildStoryUpdateRequest()));
+        assertThat(preconditionFailedException.getResponseMessage()).isEqualTo(ResponseMessageEnum.VERSION_CHANGED);
+
+        verify(storyRepository, never()).save(any(StoryEntity.class));
+        verify(planService, never()).storySaved(any(StoryEntity.class));
+    }
+
+    @Test
+    void test__patchStory__shouldChangeOnlyPresentFields() {
+        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(buildStoryEntity()));
+        when(storyRepository.saveAndFlush(any(StoryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, StoryEntity.class));
+        StoryPatchRequest storyPatchRequest = new StoryPatchRequest();
+        storyPatchRequest.setStatus("Estimated");
+        storyPatchRequest.setDescription(null);
+
+        StoryResponse storyResponse = issueService.patchStory(1, null, storyPatchRequest);
+
+        assertThat(storyResponse.getTitle()).isEqualTo("title");
+        assertThat(storyResponse.getDescription()).isNull();
+        assertThat(storyResponse.getStoryPoint()).isEqualTo(2);
+        assertThat(storyResponse.getStatus()).isEqualTo(StoryStatus.ESTIMATED.name());
+
+        verify(planService).storySaved(any(StoryEntity.class));
+    }
+
+    @Test
+    void test__patchStory__whenStatusIsNull__shouldFail() {
+        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(buildStoryEntity()));
+        StoryPatchRequest storyPatchRequest = new StoryPatchRequest();
+        storyPatchRequest.setStatus(null);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.patchStory(1, null, storyPatchRequest));
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_STATUS);
+
+        verify(storyRepository, never()).saveAndFlush(any(StoryEntity.class));
+    }
+
+    @Test
+    void test__patchStory__whenVersionChanged__shouldFail() {
+        StoryEntity storyEntity = buildStoryEntity();
+        storyEntity.setVersion(2);
+        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(storyEntity));
+
+        PreconditionFailedException preconditionFailedException = assertThrows(PreconditionFailedException.class,
+            () -> issueService.patchStory(1, 1, new StoryPatchRequest()));
+        assertThat(preconditionFailedException.getResponseMessage()).isEqualTo(ResponseMessageEnum.VERSION_CHANGED);
+
+        verify(storyRepository, never()).saveAndFlush(any(StoryEntity.class));
+    }
+
     @Test
     void test__deleteStory__shouldSuccess() {
-        when(storyRepository.existsById(anyInt())).thenReturn(Boolean.TRUE);
+        when(storyRepository.deleteStoryById(anyInt())).thenReturn(1);
 
         issueService.deleteStory(1);
 
-        verify(storyRepository).deleteById(1);
+        verify(storyRepository).deleteStoryById(1);
+        verify(planService).storyDeleted(1);
     }
 
     @Test
     void test__deleteStory__whenBugNotFound__shouldFail() {
-        when(storyRepository.existsById(anyInt())).thenReturn(Boolean.FALSE);
+        when(storyRepository.deleteStoryById(anyInt())).thenReturn(0);
 
         BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.deleteStory(1));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.STORY_NOT_FOUND);
 
-        verify(storyRepository, never()).deleteById(1);
+        verify(planService, never()).storyDeleted(anyInt());
+    }
+
+    @Test
+    void test__deleteStories__shouldSuccess() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(storyRepository.deleteStoriesByIdIn(anyList())).thenReturn(2);
+
+        BulkUpdateResponse bulkUpdateResponse = issueService.deleteStories(List.of(1, 2, 3));
+
+        assertThat(bulkUpdateResponse.getAffected()).isEqualTo(2);
+        verify(storyRepository).deleteStoriesByIdIn(List.of(1, 2, 3));
+        verify(planService).storiesDeleted(List.of(1, 2, 3));
+    }
+
+    @Test
+    void test__deleteStories__withoutIds__shouldFail() {
+        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.deleteStories(List.of()));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_BATCH_SIZE);
+        verify(storyRepository, never()).deleteStoriesByIdIn(anyList());
     }
 
     @Test
@@ -183,6 +384,48 @@ class IssueServiceTest {
         verify(bugRepository).save(any(BugEntity.class));
     }
 
+    @Test
+    void test__createBugs__withOnlyInvalidPriorities__shouldNotSave() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        BugCreateRequest bugCreateRequest = buildBugCreateRequest();
+        bugCreateRequest.setPriority("Urgent");
+
+        BatchResponse<BugResponse> batchResponse = issueService.createBugs(List.of(bugCreateRequest));
+
+        assertThat(batchResponse.getSucceeded()).isZero();
+        assertThat(batchResponse.getFailed()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(0).getMessage()).isEqualTo(ResponseMessageEnum.INVALID_PRIORITY.getMessage());
+        verify(bugRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void test__getBugs__shouldSuccess() {
+        when(applicationConfiguration.getPageDefaultSize()).thenReturn(100);
+        when(applicationConfiguration.getPageMaxSize()).thenReturn(1000);
+        BugEntity first = buildBugEntity();
+        BugEntity second = buildBugEntity();
+        second.setId(2);
+        when(bugRepository.findByIdGreaterThanOrderById(Integer.MIN_VALUE, PageRequest.ofSize(2))).thenReturn(List.of(first, second));
+
+        BugListResponse bugListResponse = issueService.getBugs(null, 1);
+
+        assertThat(bugListResponse.getBugs()).extracting(BugResponse::getId).containsExactly(first.getId());
+        assertThat(bugListResponse.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void test__getBugsByIds__shouldReportMissingIdsPerItem() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(bugRepository.findAllById(Set.of(1, 5))).thenReturn(List.of(buildBugEntity()));
+
+        BatchResponse<BugResponse> batchResponse = issueService.getBugsByIds(List.of(1, 5));
+
+        assertThat(batchResponse.getSucceeded()).isEqualTo(1);
+        assertThat(batchResponse.getFailed()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(0).getData().getId()).isEqualTo(1);
+        assertThat(batchResponse.getResults().get(1).getMessage()).isEqualTo(ResponseMessageEnum.BUG_NOT_FOUND.getMessage());
+    }
+
     @Test
     void test__getBug__shouldSuccess() {
         when(bugRepository.findById(anyInt())).thenReturn(Optional.of(buildBugEntity()));
@@ -233,7 +476,7 @@ class IssueServiceTest {
 
         when(bugRepository.save(any(BugEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, BugEntity.class));
 
-        BugResponse bugResponse = issueService.updateBug(1, buildBugUpdateRequest());
+        BugResponse bugResponse = issueService.updateBug(1, null, buildBugUpdateRequest());
 
         assertThat(bugResponse).isNotNull();
         assertThat(bugResponse.getId()).isEqualTo(1);
@@ -250,107 +493,276 @@ class IssueServiceTest {
     void test__updateBug__whenStoryNotFound__shouldFail() {
         when(bugRepository.findById(anyInt())).thenReturn(Optional.empty());
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.updateBug(1, buildBugUpdateRequest()));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.updateBug(1, null, buildBugUpdateRequest()));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.BUG_NOT_FOUND);
 
         verify(bugRepository, never()).save(any(BugEntity.class));
     }
 
+    @Test
+    void test__updateBug__withMatchingVersion__shouldSuccess() {
+        BugEntity bugEntity = buildBugEntity();
+        bugEntity.setVersion(2);
+        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(bugEntity));
+        when(bugRepository.save(any(BugEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, BugEntity.class));
+
+        BugResponse bugResponse = issueService.updateBug(1, 2, buildBugUpdateRequest());
+
+        assertThat(bugResponse.getVersion()).isEqualTo(2);
+        verify(bugRepository).save(bugEntity);
+    }
+
+    @Test
+    void test__updateBug__whenVersionChanged__shouldFail() {
+        BugEntity bugEntity = buildBugEntity();
+        bugEntity.setVersion(2);
+        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(bugEntity));
+
+        PreconditionFailedException preconditionFailedException = assertThrows(PreconditionFailedException.class,
+            () -> issueService.updateBug(1, 1, buildBugUpdateRequest()));
+        assertThat(preconditionFailedException.getResponseMessage()).isEqualTo(ResponseMessageEnum.VERSION_CHANGED);
+
+        verify(bugRepository, never()).save(any(BugEntity.class));
+    }
+
+    @Test
+    void test__patchBug__shouldChangeOnlyPresentFields() {
+        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(buildBugEntity()));
+        when(bugRepository.saveAndFlush(any(BugEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, BugEntity.class));
+        BugPatchRequest bugPatchRequest = new BugPatchRequest();
+        bugPatchRequest.setStatus("Verified");
+
+        BugResponse bugResponse = issueService.patchBug(1, null, bugPatchRequest);
+
+        assertThat(bugResponse.getTitle()).isEqualTo("title");
+        assertThat(bugResponse.getDescription()).isEqualTo("description");
+        assertThat(bugResponse.getPriority()).isEqualTo(Priority.CRITICAL.name());
+        assertThat(bugResponse.getStatus()).isEqualTo(BugStatus.VERIFIED.name());
+    }
+
+    @Test
+    void test__patchBug__whenPriorityIsInvalid__shouldFail() {
+        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(buildBugEntity()));
+        BugPatchRequest bugPatchRequest = new BugPatchRequest();
+        bugPatchRequest.setPriority("Blocker");
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.patchBug(1, null, bugPatchRequest));
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_PRIORITY);
+
+        verify(bugRepository, never()).saveAndFlush(any(BugEntity.class));
+    }
+
     @Test
     void test__deleteBug__shouldSuccess() {
-        when(bugRepository.existsById(anyInt())).thenReturn(Boolean.TRUE);
+        when(bugRepository.deleteBugById(anyInt())).thenReturn(1);
 
         issueService.deleteBug(1);
 
-        verify(bugRepository).deleteById(1);
+        verify(bugRepository).deleteBugById(1);
     }
 
     @Test
     void test__deleteBug__whenBugNotFound__shouldFail() {
-        when(bugRepository.existsById(anyInt())).thenReturn(Boolean.FALSE);
+        when(bugRepository.deleteBugById(anyInt())).thenReturn(0);
 
         BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.deleteBug(1));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.BUG_NOT_FOUND);
+    }
+
+    @Test
+    void test__deleteBugs__shouldSuccess() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(bugRepository.deleteBugsByIdIn(anyList())).thenReturn(3);
 
-        verify(bugRepository, never()).deleteById(1);
+        BulkUpdateResponse bulkUpdateResponse = issueService.deleteBugs(List.of(1, 2, 3));
+
+        assertThat(bulkUpdateResponse.getAffected()).isEqualTo(3);
+        verify(bugRepository).deleteBugsByIdIn(List.of(1, 2, 3));
+    }
+
+    @Test
+    void test__updateIssues__shouldSuccess() {
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+        when(developerRepository.findById(2)).thenReturn(Optional.of(buildDeveloperEntity()));
+        when(issueRepository.bulkUpdate(any(IssueBulkUpdate.class))).thenReturn(3);
+
+        BulkUpdateResponse bulkUpdateResponse = issueService.updateIssues(new IssueBulkUpdateRequest(
+            new IssueFilterRequest(List.of(1, 2, 3), "Story", "New", null), new IssueChangeRequest("Estimated", 2)));
+
+        assertThat(bulkUpdateResponse.getAffected()).isEqualTo(3);
+        ArgumentCaptor<IssueBulkUpdate> captor = ArgumentCaptor.forClass(IssueBulkUpdate.class);
+        verify(issueRepository).bulkUpdate(captor.capture());
+        assertThat(captor.getValue().getEntityType()).isEqualTo(StoryEntity.class);
+        assertThat(captor.getValue().getIds()).containsExactly(1, 2, 3);
+        assertThat(captor.getValue().getStatus()).isEqualTo(StoryStatus.NEW);
+        assertThat(captor.getValue().getNewStatus()).isEqualTo(StoryStatus.ESTIMATED);
+        assertThat(captor.getValue().getNewDeveloperId()).isEqualTo(2);
+        verify(planService).issuesBulkUpdated();
+    }
+
+    @Test
+    void test__updateIssues__withBugs__shouldNotInvalidatePlan() {
+        when(issueRepository.bulkUpdate(any(IssueBulkUpdate.class))).thenReturn(2);
+
+        BulkUpdateResponse bulkUpdateResponse = issueService.updateIssues(new IssueBulkUpdateRequest(
+            new IssueFilterRequest(null, "Bug", "New", null), new IssueChangeRequest("Verified", null)));
+
+        assertThat(bulkUpdateResponse.getAffected()).isEqualTo(2);
+        verify(planService, never()).issuesBulkUpdated();
+    }
+
+    @Test
+    void test__updateIssues__withoutFilter__shouldFail() {
+        IssueBulkUpdateRequest issueBulkUpdateRequest = new IssueBulkUpdateRequest(
+            new IssueFilterRequest(List.of(), null, null, null), new IssueChangeRequest(null, 1));
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.updateIssues(issueBulkUpdateRequest));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_FILTER);
+        verify(issueRepository, never()).bulkUpdate(any(IssueBulkUpdate.class));
+    }
+
+    @Test
+    void test__updateIssues__withoutUpdate__shouldFail() {
+        IssueBulkUpdateRequest issueBulkUpdateRequest = new IssueBulkUpdateRequest(
+            new IssueFilterRequest(null, null, null, 1), new IssueChangeRequest());
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.updateIssues(issueBulkUpdateRequest));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_UPDATE);
+    }
+
+    @Test
+    void test__updateIssues__withStatusWithoutType__shouldFail() {
+        IssueBulkUpdateRequest issueBulkUpdateRequest = new IssueBulkUpdateRequest(
+            new IssueFilterRequest(List.of(1), null, null, null), new IssueChangeRequest("Completed", null));
+        when(applicationConfiguration.getBatchMaxSize()).thenReturn(10);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.updateIssues(issueBulkUpdateRequest));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_STATUS);
+    }
+
+    @Test
+    void test__updateIssues__whenDeveloperNotFound__shouldFail() {
+        IssueBulkUpdateRequest issueBulkUpdateRequest = new IssueBulkUpdateRequest(
+            new IssueFilterRequest(null, null, null, 1), new IssueChangeRequest(null, 2));
+        when(developerRepository.findById(2)).thenReturn(Optional.empty());
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.updateIssues(issueBulkUpdateRequest));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
+        verify(issueRepository, never()).bulkUpdate(any(IssueBulkUpdate.class));
     }
 
     @Test
     void test__assignStoryDeveloper__shouldSuccess() {
-        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(buildStoryEntity()));
         DeveloperEntity developerEntity = buildDeveloperEntity();
-        when(developerRepository.findById(anyInt())).thenReturn(Optional.of(developerEntity));
+        when(developerRepository.getById(anyInt())).thenReturn(developerEntity);
+        when(storyRepository.assignDeveloper(1, developerEntity)).thenReturn(1);
 
         issueService.assignStoryDeveloper(1, new AssigneeRequest(1));
 
-        ArgumentCaptor<StoryEntity> argumentCaptor = ArgumentCaptor.forClass(StoryEntity.class);
-        verify(storyRepository).save(argumentCaptor.capture());
-
-        StoryEntity capturedStoryEntity = argumentCaptor.getValue();
-        assertThat(capturedStoryEntity.getDeveloper()).isEqualTo(developerEntity);
+        verify(storyRepository).assignDeveloper(1, developerEntity);
+        verify(planService).storyAssigned(1, 1);
     }
 
     @Test
     void test__assignStoryDeveloper__whenStoryNotFound__shouldFail() {
-        when(storyRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(developerRepository.getById(anyInt())).thenReturn(buildDeveloperEntity());
+        when(storyRepository.assignDeveloper(anyInt(), any(DeveloperEntity.class))).thenReturn(0);
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.assignStoryDeveloper(1, new AssigneeRequest(1)));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.assignStoryDeveloper(1, new AssigneeRequest(1)));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.STORY_NOT_FOUND);
 
-        verify(storyRepository, never()).save(any(StoryEntity.class));
+        verify(planService, never()).storyAssigned(anyInt(), anyInt());
     }
 
     @Test
     void test__assignStoryDeveloper__whenDeveloperNotFound__shouldFail() {
-        when(storyRepository.findById(anyInt())).thenReturn(Optional.of(buildStoryEntity()));
-        when(developerRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(developerRepository.getById(anyInt())).thenReturn(buildDeveloperEntity());
+        when(storyRepository.assignDeveloper(anyInt(), any(DeveloperEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("developer_id"));
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.assignStoryDeveloper(1, new AssigneeRequest(1)));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.assignStoryDeveloper(1, new AssigneeRequest(1)));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
 
-        verify(storyRepository, never()).save(any(StoryEntity.class));
+        verify(planService, never()).storyAssigned(anyInt(), anyInt());
+    }
+
+    @Test
+    void test__assignStoryDeveloper__withExpectedDeveloper__shouldCompareAndSet() {
+        DeveloperEntity developerEntity = buildDeveloperEntity();
+        when(developerRepository.getById(anyInt())).thenReturn(developerEntity);
+        when(storyRepository.assignDeveloperIfAssignedTo(1, developerEntity, 2)).thenReturn(1);
+        AssigneeRequest assigneeRequest = new AssigneeRequest(1);
+        assigneeRequest.setExpectedId(2);
+
+        issueService.assignStoryDeveloper(1, assigneeRequest);
+
+        verify(storyRepository, never()).assignDeveloper(anyInt(), any(DeveloperEntity.class));
+        verify(planService).storyAssigned(1, 1);
+    }
+
+    @Test
+    void test__assignStoryDeveloper__whenAssigneeChanged__shouldFail() {
+        DeveloperEntity developerEntity = buildDeveloperEntity();
+        when(developerRepository.getById(anyInt())).thenReturn(developerEntity);
+        when(storyRepository.assignDeveloperIfUnassigned(1, developerEntity)).thenReturn(0);
+        when(storyRepository.existsById(1)).thenReturn(true);
+        AssigneeRequest assigneeRequest = new AssigneeRequest(1);
+        assigneeRequest.setExpectedId(null);
+
+        ConflictException conflictException = assertThrows(ConflictException.class,
+            () -> issueService.assignStoryDeveloper(1, assigneeRequest));
+        assertThat(conflictException.getResponseMessage()).isEqualTo(ResponseMessageEnum.ASSIGNEE_CHANGED);
+
+        verify(planService, never()).storyAssigned(anyInt(), anyInt());
     }
 
     @Test
     void test__assignBugDeveloper__shouldSuccess() {
-        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(buildBugEntity()));
         DeveloperEntity developerEntity = buildDeveloperEntity();
-        when(developerRepository.findById(anyInt())).thenReturn(Optional.of(developerEntity));
+        when(developerRepository.getById(anyInt())).thenReturn(developerEntity);
+        when(bugRepository.assignDeveloper(1, developerEntity)).thenReturn(1);
 
         issueService.assignBugDeveloper(1, new AssigneeRequest(1));
 
-        ArgumentCaptor<BugEntity> argumentCaptor = ArgumentCaptor.forClass(BugEntity.class);
-        verify(bugRepository).save(argumentCaptor.capture());
-
-        BugEntity capturedBugEntity = argumentCaptor.getValue();
-        assertThat(capturedBugEntity.getDeveloper()).isEqualTo(developerEntity);
+        verify(bugRepository).assignDeveloper(1, developerEntity);
     }
 
     @Test
     void test__assignBugDeveloper__whenStoryNotFound__shouldFail() {
-        when(bugRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(developerRepository.getById(anyInt())).thenReturn(buildDeveloperEntity());
+        when(bugRepository.assignDeveloper(anyInt(), any(DeveloperEntity.class))).thenReturn(0);
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.assignBugDeveloper(1, new AssigneeRequest(1)));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.assignBugDeveloper(1, new AssigneeRequest(1)));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.BUG_NOT_FOUND);
-
-        verify(bugRepository, never()).save(any(BugEntity.class));
     }
 
     @Test
     void test__assignBugDeveloper__whenDeveloperNotFound__shouldFail() {
-        when(bugRepository.findById(anyInt())).thenReturn(Optional.of(buildBugEntity()));
-        when(developerRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(developerRepository.getById(anyInt())).thenReturn(buildDeveloperEntity());
+        when(bugRepository.assignDeveloper(anyInt(), any(DeveloperEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("developer_id"));
 
-        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> issueService.assignBugDeveloper(1, new AssigneeRequest(1)));
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> issueService.assignBugDeveloper(1, new AssigneeRequest(1)));
         assertThat(badRequestException).isNotNull();
         assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.DEVELOPER_NOT_FOUND);
-
-        verify(bugRepository, never()).save(any(BugEntity.class));
     }
 
     private StoryCreateRequest buildStoryCreateRequest() {
@@ -1,28 +1,47 @@
 package com.example.issuetracker.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.response.DeveloperResponse;
 import com.example.issuetracker.controller.response.IssueResponse;
 import com.example.issuetracker.controller.response.PlanListResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.controller.response.PlanWindowResponse;
 import com.example.issuetracker.domain.IssueType;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.PlanSnapshot;
+import com.example.issuetracker.domain.ResponseMessageEnum;
 import com.example.issuetracker.domain.StoryStatus;
+import com.example.issuetracker.exception.BadRequestException;
 import com.example.issuetracker.repository.DeveloperRepository;
 import com.example.issuetracker.repository.StoryRepository;
 import com.example.issuetracker.repository.entity.DeveloperEntity;
 import com.example.issuetracker.repository.entity.StoryEntity;
+import com.example.issuetracker.repository.projection.PlanStory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class PlanServiceTest {
@@ -33,14 +52,16 @@ class PlanServiceTest {
     private DeveloperRepository developerRepository;
     @Mock
     private StoryRepository storyRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
     @InjectMocks
     private PlanService planService;
 
     @Test
     void test__getPlan__shouldSuccess() {
         when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
-        when(developerRepository.count()).thenReturn(2L);
-        when(storyRepository.findByStatusIn(anyList())).thenReturn(buildStoryEntity());
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(2));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
 
         PlanListResponse planListResponse = planService.getPlan();
 
@@ -52,55 +73,385 @@ class PlanServiceTest {
         Integer sumStoryPoints1 = planListResponse.getPlans().get(1).getIssues().stream().mapToInt(IssueResponse::getStoryPoint).sum();
         assertThat(sumStoryPoints1).isLessThanOrEqualTo(20);
 
-        verify(developerRepository).count();
-        verify(storyRepository).findByStatusIn(anyList());
+        verify(developerRepository).findAll();
+        verify(storyRepository).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlan__shouldBuildIssuesFromProjection() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList()))
+            .thenReturn(List.of(new PlanStory(7, "title", StoryStatus.NEW, 3, LocalDateTime.now(), 1, "developer")));
+
+        PlanListResponse planListResponse = planService.getPlan();
+
+        IssueResponse issueResponse = planListResponse.getPlans().get(0).getIssues().get(0);
+        assertThat(issueResponse.getId()).isEqualTo(7);
+        assertThat(issueResponse.getType()).isEqualTo(IssueType.STORY.name());
+        assertThat(issueResponse.getTitle()).isEqualTo("title");
+        assertThat(issueResponse.getDescription()).isNull();
+        assertThat(issueResponse.getStoryPoint()).isEqualTo(3);
+        assertThat(issueResponse.getStatus()).isEqualTo(StoryStatus.NEW.name());
+        assertThat(issueResponse.getDeveloper().getId()).isEqualTo(1);
+        assertThat(issueResponse.getDeveloper().getName()).isEqualTo("developer");
     }
 
     @Test
     void test__getPlan__withNoDevelopers__shouldSuccessWithoutPlan() {
-        when(developerRepository.count()).thenReturn(0L);
+        when(developerRepository.findAll()).thenReturn(Collections.emptyList());
 
         PlanListResponse planListResponse = planService.getPlan();
 
         assertThat(planListResponse).isNotNull();
         assertThat(planListResponse.getPlans()).isNullOrEmpty();
 
-        verify(developerRepository).count();
-        verify(storyRepository, never()).findByStatusIn(anyList());
+        verify(developerRepository).findAll();
+        verify(applicationConfiguration, never()).getAverageStoryPoint();
     }
 
     @Test
     void test__getPlan__withNoStories__shouldSuccessWithoutPlan() {
         when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
-        when(developerRepository.count()).thenReturn(2L);
-        when(storyRepository.findByStatusIn(anyList())).thenReturn(Collections.emptyList());
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(2));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(Collections.emptyList());
 
         PlanListResponse planListResponse = planService.getPlan();
 
         assertThat(planListResponse).isNotNull();
         assertThat(planListResponse.getPlans()).isNullOrEmpty();
 
-        verify(developerRepository).count();
-        verify(storyRepository).findByStatusIn(anyList());
+        verify(developerRepository).findAll();
+        verify(storyRepository).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlan__calledTwice__shouldLoadOnce() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(2));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+
+        PlanListResponse first = planService.getPlan();
+        PlanListResponse second = planService.getPlan();
+
+        assertThat(second).isSameAs(first);
+
+        verify(developerRepository, times(1)).findAll();
+        verify(storyRepository, times(1)).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlan__afterStoryChanges__shouldUpdateWithoutReload() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(Collections.emptyList());
+        planService.getPlan();
+
+        planService.storySaved(buildStoryEntity(1, 6, StoryStatus.NEW));
+        planService.storySaved(buildStoryEntity(2, 6, StoryStatus.ESTIMATED));
+        planService.storySaved(buildStoryEntity(3, 6, StoryStatus.NEW));
+        PlanListResponse planListResponse = planService.getPlan();
+
+        assertThat(planListResponse.getPlans()).hasSize(3);
+
+        planService.storySaved(buildStoryEntity(2, 6, StoryStatus.COMPLETED));
+        planService.storyDeleted(3);
+        planListResponse = planService.getPlan();
+
+        assertThat(planListResponse.getPlans()).hasSize(1);
+        assertThat(planListResponse.getPlans().get(0).getIssues()).extracting(IssueResponse::getId).containsExactly(1);
+
+        verify(developerRepository, times(1)).findAll();
+        verify(storyRepository, times(1)).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlan__afterDeveloperChanges__shouldUpdateWithoutReload() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+        assertThat(planService.getPlan().getPlans()).hasSize(3);
+
+        DeveloperEntity developerEntity = buildDeveloperEntity();
+        developerEntity.setName("renamed");
+        planService.developerSaved(developerEntity);
+        developerEntity = new DeveloperEntity();
+        developerEntity.setId(2);
+        planService.developerSaved(developerEntity);
+        PlanListResponse planListResponse = planService.getPlan();
+
+        assertThat(planListResponse.getPlans()).hasSize(2);
+        assertThat(planListResponse.getPlans().get(0).getIssues())
+            .filteredOn(issueResponse -> issueResponse.getDeveloper() != null)
+            .allMatch(issueResponse -> "renamed".equals(issueResponse.getDeveloper().getName()));
+
+        planService.developerDeleted(2);
+
+        assertThat(planService.getPlan().getPlans()).hasSize(3);
+
+        verify(developerRepository, times(1)).findAll();
+        verify(storyRepository, times(1)).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlanSnapshot__shouldBeCachedPerVersion() throws Exception {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(Collections.emptyList());
+
+        String eTag = planService.getPlanETag();
+        PlanSnapshot first = planService.getPlanSnapshot();
+        PlanSnapshot second = planService.getPlanSnapshot();
+
+        assertThat(first.getETag()).isEqualTo(eTag);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).contains("\"message\":\"Success\"");
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+
+        planService.storySaved(buildStoryEntity(1, 3, StoryStatus.NEW));
+        PlanSnapshot third = planService.getPlanSnapshot();
+
+        assertThat(planService.getPlanETag()).isNotEqualTo(eTag);
+        assertThat(third.getETag()).isEqualTo(planService.getPlanETag());
+        assertThat(third.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(third.getPlan().getPlans()).hasSize(1);
+        verify(objectMapper, times(2)).writeValueAsBytes(any());
+    }
+
+    @Test
+    void test__writePlan__shouldWriteOneLinePerWeek() throws Exception {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.count()).thenReturn(2L);
+        List<PlanStory> storyList = buildPlanStoryList();
+        when(storyRepository.streamPlanStoriesByStatusIn(anyList())).thenReturn(storyList.stream());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        planService.writePlan(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allMatch(line -> line.startsWith("{"));
+        assertThat(objectMapper.readTree(lines[0]).get("week").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[1]).get("week").asInt()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[0]).get("issues").size() + objectMapper.readTree(lines[1]).get("issues").size())
+            .isEqualTo(storyList.size());
+
+        verify(storyRepository, never()).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__writePlan__withNoDevelopers__shouldWriteNothing() throws Exception {
+        when(developerRepository.count()).thenReturn(0L);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        planService.writePlan(outputStream);
+
+        assertThat(outputStream.size()).isZero();
+        verify(storyRepository, never()).streamPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlanWindow__shouldStopReadingAfterLastWeek() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(5);
+        when(developerRepository.count()).thenReturn(1L);
+        when(storyRepository.streamPlanStoriesByStatusIn(anyList())).thenReturn(Stream.iterate(1, id -> id + 1)
+            .map(id -> new PlanStory(id, "title", StoryStatus.NEW, 2, LocalDateTime.now(), null, null)));
+        when(storyRepository.sumStoryPointsByStatusIn(anyList())).thenReturn(200L);
+
+        PlanWindowResponse response = planService.getPlanWindow(2, 3);
+
+        assertThat(response.getFromWeek()).isEqualTo(2);
+        assertThat(response.getToWeek()).isEqualTo(3);
+        assertThat(response.getPlans()).extracting(PlanResponse::getWeek).containsExactly(2, 3);
+        assertThat(response.getPlans().get(0).getIssues()).extracting(IssueResponse::getId).containsExactly(3, 4);
+        assertThat(response.getPlans().get(1).getIssues()).extracting(IssueResponse::getId).containsExactly(5, 6);
+        assertThat(response.getTotalWeeks()).isEqualTo(50);
+        verify(storyRepository, never()).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlanWindow__whenNoWeekFilled__shouldEstimateWithCapacity() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.count()).thenReturn(1L);
+        when(storyRepository.streamPlanStoriesByStatusIn(anyList())).thenReturn(Stream.iterate(1, id -> id + 1)
+            .map(id -> new PlanStory(id, "title", StoryStatus.NEW, 13, LocalDateTime.now(), null, null)));
+        when(storyRepository.sumStoryPointsByStatusIn(anyList())).thenReturn(1300L);
+
+        PlanWindowResponse response = planService.getPlanWindow(1, 1);
+
+        assertThat(response.getPlans()).isEmpty();
+        assertThat(response.getTotalWeeks()).isEqualTo(131);
+    }
+
+    @Test
+    void test__getPlanWindow__beyondLastWeek__shouldCountWeeksWithoutAggregate() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(developerRepository.count()).thenReturn(2L);
+        when(storyRepository.streamPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList().stream());
+
+        PlanWindowResponse response = planService.getPlanWindow(2, 5);
+
+        assertThat(response.getPlans()).extracting(PlanResponse::getWeek).containsExactly(2);
+        assertThat(response.getTotalWeeks()).isEqualTo(2);
+        verify(storyRepository, never()).sumStoryPointsByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlanWindow__withNoDevelopers__shouldSuccessWithoutPlan() {
+        when(developerRepository.count()).thenReturn(0L);
+
+        PlanWindowResponse response = planService.getPlanWindow(1, 2);
+
+        assertThat(response.getPlans()).isEmpty();
+        assertThat(response.getTotalWeeks()).isZero();
+        verify(storyRepository, never()).streamPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__getPlanWindow__withInvalidRange__shouldFail() {
+        BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> planService.getPlanWindow(3, 2));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_WEEK_RANGE);
+        verify(developerRepository, never()).count();
+    }
+
+    @Test
+    void test__developerSaved__inTransaction__shouldApplyAfterCommit() {
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+        planService.getPlanBacklog();
+        String eTag = planService.getPlanETag();
+        DeveloperEntity developerEntity = new DeveloperEntity();
+        developerEntity.setId(2);
+        developerEntity.setName("developer");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            planService.developerSaved(developerEntity);
+
+            assertThat(planService.getPlanETag()).isEqualTo(eTag);
+            assertThat(planService.getPlanBacklog().getDevelopers()).hasSize(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(planService.getPlanETag()).isNotEqualTo(eTag);
+        assertThat(planService.getPlanBacklog().getDevelopers()).hasSize(2);
+        verify(developerRepository, times(1)).findAll();
     }
 
-    private List<StoryEntity> buildStoryEntity() {
-        List<StoryEntity> storyList = new ArrayList<>();
+    @Test
+    void test__storiesSaved__inTransaction__shouldApplyAfterCommit() {
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+        planService.getPlanBacklog();
+        String eTag = planService.getPlanETag();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            planService.storiesSaved(List.of(buildStoryEntity(100, 1, StoryStatus.NEW), buildStoryEntity(101, 1, StoryStatus.NEW)));
+
+            assertThat(planService.getPlanETag()).isEqualTo(eTag);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(planService.getPlanETag()).isNotEqualTo(eTag);
+        assertThat(planService.getPlanBacklog().getStories()).hasSize(16);
+        verify(storyRepository, times(1)).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__storySaved__inTransaction__shouldApplySnapshotAfterCommit() {
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(1));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+        planService.getPlanBacklog();
+        String eTag = planService.getPlanETag();
+        StoryEntity storyEntity = buildStoryEntity(100, 1, StoryStatus.NEW);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            planService.storySaved(storyEntity);
+            storyEntity.setStoryPoint(5);
+
+            assertThat(planService.getPlanETag()).isEqualTo(eTag);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(planService.getPlanETag()).isNotEqualTo(eTag);
+        assertThat(planService.getPlanBacklog().getStories())
+            .filteredOn(issueResponse -> issueResponse.getId() == 100)
+            .extracting(IssueResponse::getStoryPoint)
+            .containsExactly(1);
+    }
+
+    @Test
+    void test__getPlanBacklog__shouldBeCachedPerVersion() {
+        when(developerRepository.findAll()).thenReturn(buildDeveloperEntityList(2));
+        when(storyRepository.findPlanStoriesByStatusIn(anyList())).thenReturn(buildPlanStoryList());
+
+        PlanBacklog first = planService.getPlanBacklog();
+
+        assertThat(first.getDevelopers()).extracting(DeveloperResponse::getId).containsExactly(1, 2);
+        assertThat(first.getStories()).hasSize(14);
+        assertThat(planService.getPlanBacklog()).isSameAs(first);
+
+        planService.storyDeleted(1);
+        PlanBacklog second = planService.getPlanBacklog();
+
+        assertThat(second.getStories()).hasSize(13);
+        assertThat(first.getStories()).hasSize(14);
+        verify(storyRepository, times(1)).findPlanStoriesByStatusIn(anyList());
+    }
+
+    @Test
+    void test__storySaved__beforePlanLoaded__shouldNotLoad() {
+        String eTag = planService.getPlanETag();
+
+        planService.storySaved(buildStoryEntity(1, 1, StoryStatus.NEW));
+        planService.developerDeleted(1);
+
+        assertThat(planService.getPlanETag()).isNotEqualTo(eTag);
+
+        verify(developerRepository, never()).findAll();
+        verify(storyRepository, never()).findPlanStoriesByStatusIn(anyList());
+    }
+
+    private List<PlanStory> buildPlanStoryList() {
+        List<PlanStory> storyList = new ArrayList<>();
         for (int i = 1; i < 15; i++) {
-            StoryEntity storyEntity = new StoryEntity();
-            storyEntity.setId(i);
-            storyEntity.setType(IssueType.STORY);
-            storyEntity.setStoryPoint(i % 2 == 0 ? 2 : i % 3 == 0 ? 3 : 1);
-            storyEntity.setStatus(i % 2 == 0 ? StoryStatus.NEW : StoryStatus.ESTIMATED);
-            storyEntity.setDeveloper(i % 3 == 0 ? buildDeveloperEntity() : null);
-            storyList.add(storyEntity);
+            storyList.add(new PlanStory(i, "title", i % 2 == 0 ? StoryStatus.NEW : StoryStatus.ESTIMATED,
+                i % 2 == 0 ? 2 : i % 3 == 0 ? 3 : 1, LocalDateTime.now(), i % 3 == 0 ? 1 : null, null));
         }
         return storyList;
     }
 
+    private StoryEntity buildStoryEntity(Integer id, Integer storyPoint, StoryStatus status) {
+        StoryEntity storyEntity = new StoryEntity();
+        storyEntity.setId(id);
+        storyEntity.setType(IssueType.STORY);
+        storyEntity.setStoryPoint(storyPoint);
+        storyEntity.setStatus(status);
+        return storyEntity;
+    }
+
     private DeveloperEntity buildDeveloperEntity() {
         DeveloperEntity developerEntity = new DeveloperEntity();
         developerEntity.setId(1);
         return developerEntity;
     }
+
+    private List<DeveloperEntity> buildDeveloperEntityList(int numberOfDevelopers) {
+        List<DeveloperEntity> developerList = new ArrayList<>();
+        for (int i = 1; i <= numberOfDevelopers; i++) {
+            DeveloperEntity developerEntity = new DeveloperEntity();
+            developerEntity.setId(i);
+            developerList.add(developerEntity);
+        }
+        return developerList;
+    }
 }
\ No newline at end of file
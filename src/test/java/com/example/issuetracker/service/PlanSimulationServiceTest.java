@@ -0,0 +1,118 @@
+package com.example.issuetracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.example.issuetracker.config.ApplicationConfiguration;
+import com.example.issuetracker.controller.request.PlanSimulationRequest;
+import com.example.issuetracker.controller.request.PlanSimulationStoryRequest;
+import com.example.issuetracker.controller.response.DeveloperResponse;
+import com.example.issuetracker.controller.response.IssueResponse;
+import com.example.issuetracker.controller.response.PlanResponse;
+import com.example.issuetracker.controller.response.PlanSimulationResponse;
+import com.example.issuetracker.domain.PlanBacklog;
+import com.example.issuetracker.domain.ResponseMessageEnum;
+import com.example.issuetracker.exception.BadRequestException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlanSimulationServiceTest {
+
+    @Mock
+    private ApplicationConfiguration applicationConfiguration;
+    @Mock
+    private PlanService planService;
+    @InjectMocks
+    private PlanSimulationService planSimulationService;
+
+    @Test
+    void test__simulatePlan__withoutChanges__shouldPlanBacklog() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(3, buildDeveloperList(1), buildStoryList(4)));
+
+        PlanSimulationResponse response = planSimulationService.simulatePlan(new PlanSimulationRequest());
+
+        assertThat(response.getBacklogVersion()).isEqualTo(3);
+        assertThat(response.getDevelopers()).isEqualTo(1);
+        assertThat(response.getWeeks()).isEqualTo(4);
+        assertThat(response.getPlans()).extracting(PlanResponse::getWeek).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void test__simulatePlan__withChanges__shouldNotModifyBacklog() {
+        when(applicationConfiguration.getAverageStoryPoint()).thenReturn(10);
+        PlanBacklog planBacklog = new PlanBacklog(3, buildDeveloperList(1), buildStoryList(4));
+        when(planService.getPlanBacklog()).thenReturn(planBacklog);
+
+        PlanSimulationResponse response = planSimulationService.simulatePlan(new PlanSimulationRequest(0, List.of(2),
+            List.of(new PlanSimulationStoryRequest(3, null, 2), new PlanSimulationStoryRequest(null, "new", 5))));
+
+        assertThat(response.getDevelopers()).isEqualTo(1);
+        assertThat(response.getPlans()).hasSize(3);
+        assertThat(response.getPlans().get(0).getIssues()).extracting(IssueResponse::getId).containsExactly(1, 3);
+        assertThat(response.getPlans().get(0).getIssues()).extracting(IssueResponse::getStoryPoint).containsExactly(6, 2);
+        assertThat(response.getPlans().get(1).getIssues()).extracting(IssueResponse::getId).containsExactly(4);
+        assertThat(response.getPlans().get(2).getIssues()).extracting(IssueResponse::getTitle).containsExactly("new");
+        assertThat(planBacklog.getStories()).hasSize(4);
+        assertThat(planBacklog.getStories()).extracting(IssueResponse::getStoryPoint).containsOnly(6);
+    }
+
+    @Test
+    void test__simulatePlan__withoutDevelopers__shouldSuccessWithoutPlan() {
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(3, buildDeveloperList(1), buildStoryList(4)));
+
+        PlanSimulationResponse response = planSimulationService.simulatePlan(new PlanSimulationRequest(-2, null, null));
+
+        assertThat(response.getDevelopers()).isZero();
+        assertThat(response.getWeeks()).isZero();
+        assertThat(response.getPlans()).isEmpty();
+    }
+
+    @Test
+    void test__simulatePlan__withUnknownStory__shouldFail() {
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(3, buildDeveloperList(1), buildStoryList(4)));
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> planSimulationService.simulatePlan(new PlanSimulationRequest(null, List.of(9), null)));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.STORY_NOT_FOUND);
+    }
+
+    @Test
+    void test__simulatePlan__withInvalidStoryPoint__shouldFail() {
+        when(planService.getPlanBacklog()).thenReturn(new PlanBacklog(3, buildDeveloperList(1), buildStoryList(4)));
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> planSimulationService.simulatePlan(new PlanSimulationRequest(null, null,
+                List.of(new PlanSimulationStoryRequest(null, "new", null)))));
+
+        assertThat(badRequestException.getResponseMessage()).isEqualTo(ResponseMessageEnum.INVALID_STORY_POINT);
+    }
+
+    private List<IssueResponse> buildStoryList(int numberOfStories) {
+        List<IssueResponse> stories = new ArrayList<>();
+        for (int i = 1; i <= numberOfStories; i++) {
+            IssueResponse issueResponse = new IssueResponse();
+            issueResponse.setId(i);
+            issueResponse.setTitle("title");
+            issueResponse.setStoryPoint(6);
+            stories.add(issueResponse);
+        }
+        return stories;
+    }
+
+    private List<DeveloperResponse> buildDeveloperList(int numberOfDevelopers) {
+        List<DeveloperResponse> developers = new ArrayList<>();
+        for (int i = 1; i <= numberOfDevelopers; i++) {
+            developers.add(new DeveloperResponse(i, "developer"));
+        }
+        return developers;
+    }
+}